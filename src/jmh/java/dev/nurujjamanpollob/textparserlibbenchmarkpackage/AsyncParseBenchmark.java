@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlibbenchmarkpackage;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.ParserExecutors;
+import dev.nurujjamanpollob.textparserlib.parser.TextParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the asynchronous parsing throughput. Each invocation submits a batch of parsing tasks and waits for all of them, so the result is the number of texts parsed per second.
+ * <p>
+ * Run with: gradle jmh -PjmhArgs="AsyncParseBenchmark -prof gc"
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AsyncParseBenchmark {
+
+    /**
+     * Number of texts parsed by each invocation.
+     */
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * Length of the text, in characters.
+     */
+    @Param({"1024", "65536"})
+    public int length;
+
+    /**
+     * The executor that runs the parsing tasks.
+     */
+    @Param({"default", "virtual"})
+    public String executor;
+
+    private TextParser textParser;
+    private Executor parseExecutor;
+
+    @SuppressWarnings("unchecked")
+    private final CompletableFuture<String>[] futures = new CompletableFuture[BATCH_SIZE];
+
+    @Setup
+    public void setup() throws TemplateException {
+
+        HashMap<String, String> keyValuePairs = BenchmarkTexts.generateValues(false);
+        textParser = new TextParser(BenchmarkTexts.generateText(length, 64, false), new Template("*(", ")*"), keyValuePairs);
+        parseExecutor = "virtual".equals(executor) ? ParserExecutors.getVirtualThreadExecutor() : ParserExecutors.getDefaultExecutor();
+    }
+
+    /**
+     * Parse a batch of texts with {@link TextParser#parseAsync(Executor)}, and wait for all of them.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int parseAsync() {
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            futures[i] = textParser.parseAsync(parseExecutor);
+        }
+
+        int parsedLength = 0;
+        for (CompletableFuture<String> future : futures) {
+            parsedLength += future.join().length();
+        }
+        return parsedLength;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlibbenchmarkpackage;
+
+import java.util.HashMap;
+
+/**
+ * Class to generate the texts and values used by the benchmarks.
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ */
+final class BenchmarkTexts {
+
+    /**
+     * The number of distinct identifier names in a generated text.
+     */
+    static final int VARIABLE_COUNT = 16;
+
+    /**
+     * Suppress default constructor for non-instantiability.
+     */
+    private BenchmarkTexts() {
+        throw new AssertionError("This class is not intended to be instantiated.");
+    }
+
+    /**
+     * Method to generate a text for the template *( and )*.
+     *
+     * @param length           the length of the text, in characters.
+     * @param placeholderEvery the number of characters between two identifiers, lower is denser.
+     * @param isUseOptional    if true, every second identifier is optional with a defVal parameter.
+     * @return the generated text.
+     */
+    static String generateText(int length, int placeholderEvery, boolean isUseOptional) {
+
+        final StringBuilder text = new StringBuilder(length + 64);
+        int identifier = 0;
+
+        while (text.length() < length) {
+
+            // Literal text between two identifiers
+            for (int i = 0; i < placeholderEvery && text.length() < length; i++) {
+                text.append((char) ('a' + (i % 26)));
+            }
+
+            if (isUseOptional && identifier % 2 == 1) {
+                text.append("*(?var").append(identifier % VARIABLE_COUNT).append(" defVal=\"default value\")*");
+            } else {
+                text.append("*(var").append(identifier % VARIABLE_COUNT).append(")*");
+            }
+            identifier++;
+        }
+        return text.toString();
+    }
+
+    /**
+     * Method to generate the values of the identifiers. When optional identifiers are used, only the mandatory ones have a value, so the default value is used.
+     *
+     * @param isUseOptional if true, the optional identifiers have no value.
+     * @return the key-value pairs.
+     */
+    static HashMap<String, String> generateValues(boolean isUseOptional) {
+
+        final HashMap<String, String> keyValuePairs = new HashMap<>();
+
+        for (int i = 0; i < VARIABLE_COUNT; i++) {
+            if (!isUseOptional || i % 2 == 0) {
+                keyValuePairs.put("var" + i, "value of " + i);
+            }
+        }
+        return keyValuePairs;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlibbenchmarkpackage;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.CompiledTemplate;
+import dev.nurujjamanpollob.textparserlib.parser.TemplateCache;
+import dev.nurujjamanpollob.textparserlib.parser.TextParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the synchronous parsing, across text sizes, identifier densities, optional identifiers and basic syntax checking.
+ * <p>
+ * Run with: gradle jmh -PjmhArgs="TextParserBenchmark -prof gc", the gc profiler reports the allocation rate of each benchmark.
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TextParserBenchmark {
+
+    /**
+     * Length of the text, in characters.
+     */
+    @Param({"1024", "65536", "1048576"})
+    public int length;
+
+    /**
+     * Number of characters between two identifiers.
+     */
+    @Param({"16", "256"})
+    public int placeholderEvery;
+
+    /**
+     * If true, every second identifier is optional, and has no value.
+     */
+    @Param({"false", "true"})
+    public boolean isUseOptional;
+
+    /**
+     * If true, the parser checks for basic syntax errors.
+     */
+    @Param({"false", "true"})
+    public boolean isCheckForBasicSyntax;
+
+    private String text;
+    private Template template;
+    private HashMap<String, String> keyValuePairs;
+    private CompiledTemplate compiledTemplate;
+
+    @Setup
+    public void setup() throws TemplateException {
+
+        text = BenchmarkTexts.generateText(length, placeholderEvery, isUseOptional);
+        template = new Template("*(", ")*");
+        keyValuePairs = BenchmarkTexts.generateValues(isUseOptional);
+        compiledTemplate = new CompiledTemplate(text, template, isCheckForBasicSyntax);
+
+        // The default template cache is opt-in
+        TemplateCache.setDefault(new TemplateCache(TemplateCache.DEFAULT_MAX_ENTRIES, TemplateCache.DEFAULT_MAX_WEIGHT));
+    }
+
+    @TearDown
+    public void tearDown() {
+        TemplateCache.setDefault(null);
+    }
+
+    /**
+     * Scan and render the text, as {@link TextParser#parseSynchronously()} does for every call.
+     */
+    @Benchmark
+    public String parseSynchronously() throws TemplateException {
+        return new TextParser(text, template, keyValuePairs, isCheckForBasicSyntax).parseSynchronously();
+    }
+
+    /**
+     * Parse the text with {@link Template#parseSynchronously(CharSequence, HashMap, Boolean)}, that is scanned only once through the default template cache, set in {@link #setup()}.
+     */
+    @Benchmark
+    public String parseWithTemplateCache() throws TemplateException {
+        return template.parseSynchronously(text, keyValuePairs, isCheckForBasicSyntax);
+    }
+
+    /**
+     * Render the text, that is already scanned.
+     */
+    @Benchmark
+    public String renderCompiled() throws TemplateException {
+        return compiledTemplate.render(keyValuePairs);
+    }
+
+    /**
+     * Scan and render the text in parallel, a text shorter than the parallel threshold is parsed in the calling thread.
+     */
+    @Benchmark
+    public String parseInParallel() throws TemplateException {
+        return new TextParser(text, template, keyValuePairs, isCheckForBasicSyntax).parseInParallel();
+    }
+}
@@ -59,18 +59,26 @@
 
 package dev.nurujjamanpollob.textparserlib;
 
+import dev.nurujjamanpollob.textparserlib.escape.Escaper;
 
 public final class KeyObjects{
 
     private final boolean isOptional;
     private final String keyName;
     private final String optionalValue;
+    private final Escaper escaper;
 
     public KeyObjects(Boolean isOptional, String keyName, String optionalKeyVal) {
 
+        this(isOptional, keyName, optionalKeyVal, null);
+    }
+
+    public KeyObjects(Boolean isOptional, String keyName, String optionalKeyVal, Escaper escaper) {
+
         this.isOptional = isOptional;
         this.keyName = keyName;
         this.optionalValue = optionalKeyVal;
+        this.escaper = escaper;
 
     }
 
@@ -90,4 +98,11 @@ public final class KeyObjects{
     public String getOptionalValue() {
         return optionalValue;
     }
+
+    /**
+     * @return the escaper of the value, or null if the value is written as it is.
+     */
+    public Escaper getEscaper() {
+        return escaper;
+    }
 }
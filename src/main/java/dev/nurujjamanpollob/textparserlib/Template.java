@@ -59,12 +59,23 @@
 
 package dev.nurujjamanpollob.textparserlib;
 
+import dev.nurujjamanpollob.textparserlib.escape.Escaper;
 import dev.nurujjamanpollob.textparserlib.event.ParseEventListener;
 import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.CompiledTemplate;
+import dev.nurujjamanpollob.textparserlib.parser.Placeholder;
+import dev.nurujjamanpollob.textparserlib.parser.RenderResult;
+import dev.nurujjamanpollob.textparserlib.parser.TemplateCache;
 import dev.nurujjamanpollob.textparserlib.parser.TextParser;
+import dev.nurujjamanpollob.textparserlib.parser.VariableResolver;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * @apiNote Class that represents a template for a text. For example, a template can be like this:
@@ -92,13 +103,38 @@ public final class Template {
 
     private final String startTemplate;
     private final String endTemplate;
+    private final Escaper escaper;
+    private final boolean isEscaperSuffixEnabled;
 
     /**
      * Constructor that initialize the template with the start and end characters.
+     * <p>
+     * The identifiers of this template have no escaper, a | character is a part of the identifier name, for example *(a|html)* looks up the key a|html, as in the version 2.0.
      * @param startTemplate the start characters of the template.
      * @param endTemplate the end characters of the template.
      */
     public Template(String startTemplate, String endTemplate) throws TemplateException {
+        this(startTemplate, endTemplate, null, false);
+    }
+
+    /**
+     * Constructor that initialize the template with the start and end characters, and an escaper for the values.
+     * <p>
+     * An identifier of this template can use another escaper with its name after the last | character, for example *(body | raw)*.
+     * A | character that is not followed by the name of a built-in escaper is still a part of the identifier name.
+     * @param startTemplate the start characters of the template.
+     * @param endTemplate the end characters of the template.
+     * @param escaper the escaper used for the value of every identifier of this template, while the value is written. Null, or {@link dev.nurujjamanpollob.textparserlib.escape.Escapers#RAW}, to write the values as they are, and only read the escaper after the | character.
+     * @see dev.nurujjamanpollob.textparserlib.escape.Escapers for the built-in escapers.
+     */
+    public Template(String startTemplate, String endTemplate, Escaper escaper) throws TemplateException {
+        this(startTemplate, endTemplate, escaper, true);
+    }
+
+    /**
+     * Constructor that initialize the template, and check the start and end characters.
+     */
+    private Template(String startTemplate, String endTemplate, Escaper escaper, boolean isEscaperSuffixEnabled) throws TemplateException {
 
         // Check for template start and end characters.
         if (startTemplate == null || startTemplate.isEmpty() || endTemplate == null || endTemplate.isEmpty()) {
@@ -106,6 +142,8 @@ public final class Template {
         }
         this.startTemplate = startTemplate;
         this.endTemplate = endTemplate;
+        this.escaper = escaper;
+        this.isEscaperSuffixEnabled = isEscaperSuffixEnabled;
     }
 
     /**
@@ -124,6 +162,22 @@ public final class Template {
         return endTemplate;
     }
 
+    /**
+     * Get the escaper of the values.
+     * @return the escaper, or null if the values are written as they are.
+     */
+    public Escaper getEscaper() {
+        return escaper;
+    }
+
+    /**
+     * Check if an identifier of this template can name its escaper after a | character, this is true for a template made with an escaper.
+     * @return true if the escaper name after the last | character is read, false if the | character is a part of the identifier name.
+     */
+    public boolean isEscaperSuffixEnabled() {
+        return isEscaperSuffixEnabled;
+    }
+
 
 
     @Override
@@ -134,16 +188,76 @@ public final class Template {
                 '}';
     }
 
+    /**
+     * @apiNote Method to compile the text with the template instance, so it can be rendered many times without scanning the text again.
+     * @param text the text to compile.
+     * @return the compiled text, see {@link CompiledTemplate#render(java.util.Map)}.
+     * @throws TemplateException you are requested to check the exception for the specific error.
+     */
+    public CompiledTemplate compile(CharSequence text) throws TemplateException {
+
+        return new CompiledTemplate(text, this);
+    }
+
+    /**
+     * @apiNote Method to compile the text with the template instance, so it can be rendered many times without scanning the text again.
+     * @param text the text to compile.
+     * @param isCheckForBasicSyntaxError if true, the parser will check for basic syntax error, otherwise it will not.
+     * @return the compiled text, see {@link CompiledTemplate#render(java.util.Map)}.
+     * @throws TemplateException you are requested to check the exception for the specific error.
+     */
+    public CompiledTemplate compile(CharSequence text, Boolean isCheckForBasicSyntaxError) throws TemplateException {
+
+        return new CompiledTemplate(text, this, isCheckForBasicSyntaxError);
+    }
+
+    /**
+     * @apiNote Method to get the placeholders found in the text, without rendering it. If the process-wide cache is set, the text is compiled through it, so the placeholders of a text are found only once.
+     * @param text the text to look up.
+     * @return the placeholders, in the order they are found in the text, see {@link CompiledTemplate#getPlaceholders()}.
+     * @throws TemplateException if the text is null, or the text can not be compiled.
+     * @see TemplateCache
+     */
+    public List<Placeholder> getPlaceholders(CharSequence text) throws TemplateException {
+
+        final TemplateCache templateCache = TemplateCache.getDefault();
+        if (templateCache == null) {
+            return compile(text, false).getPlaceholders();
+        }
+        return templateCache.get(text, this, false).getPlaceholders();
+    }
+
+    /**
+     * @apiNote Method to parse the text with each set of identifier and their values in the list. The text is compiled once and rendered in parallel, see {@link CompiledTemplate#renderAll(List)}.
+     * @param text the text to parse.
+     * @param keyValueSetsList the list of sets of identifier and their values.
+     * @return the results in the same order as the list, a render that failed holds its exception.
+     * @throws TemplateException if the text can not be compiled, or the list is null.
+     */
+    public List<RenderResult> parseAll(CharSequence text, List<Map<String, String>> keyValueSetsList) throws TemplateException {
+
+        return compile(text).renderAll(keyValueSetsList);
+    }
+
     /**
      *@apiNote Method to parse the text synchronously with the template instance. This method works same as the {@link TextParser#parseSynchronously()} method.
      * @param text the text to parse.
      * @param keyValueSets the set of identifier and their values, to look up at text and replace with their values.
      * @return the parsed text.
      * @throws TemplateException you are requested to check the exception for the specific error.
+     * @see TemplateCache#setDefault(TemplateCache) if the process-wide cache is set, the text is compiled through it, so a text that is parsed over and over is scanned only once.
+     */
+    public String parseSynchronously(CharSequence text, HashMap<String, String> keyValueSets) throws TemplateException {
+
+        return cachedTextParser(new TextParser(text, this, keyValueSets)).parseSynchronously();
+    }
+
+    /**
+     * @apiNote Same as {@link #parseSynchronously(CharSequence, HashMap)}, this method is kept so the code compiled with the version 2.0 still runs.
      */
     public String parseSynchronously(String text, HashMap<String, String> keyValueSets) throws TemplateException {
 
-        return new TextParser(text, this, keyValueSets).parseSynchronously();
+        return parseSynchronously((CharSequence) text, keyValueSets);
     }
 
     /**
@@ -153,10 +267,45 @@ public final class Template {
      * @param isCheckForBasicSyntaxError if true, the parser will check for basic syntax error, otherwise it will not.
      * @return the parsed text.
      * @throws TemplateException You are requested to check the exception for the specific error.
+     * @see TemplateCache#setDefault(TemplateCache) if the process-wide cache is set, the text is compiled through it, so a text that is parsed over and over is scanned only once.
+     */
+    public String parseSynchronously(CharSequence text, HashMap<String, String> keyValueSets, Boolean isCheckForBasicSyntaxError) throws TemplateException {
+
+        return cachedTextParser(new TextParser(text, this, keyValueSets, isCheckForBasicSyntaxError)).parseSynchronously();
+    }
+
+    /**
+     * @apiNote Same as {@link #parseSynchronously(CharSequence, HashMap, Boolean)}, this method is kept so the code compiled with the version 2.0 still runs.
      */
     public String parseSynchronously(String text, HashMap<String, String> keyValueSets, Boolean isCheckForBasicSyntaxError) throws TemplateException {
 
-        return new TextParser(text, this, keyValueSets, isCheckForBasicSyntaxError).parseSynchronously();
+        return parseSynchronously((CharSequence) text, keyValueSets, isCheckForBasicSyntaxError);
+    }
+
+    /**
+     *@apiNote Method to parse the text synchronously with the template instance, the values are looked up only for the identifiers found in the text. This method works same as the {@link TextParser#parseSynchronously(VariableResolver)} method.
+     * @param text the text to parse.
+     * @param variableResolver the resolver to look up the values of the identifiers.
+     * @return the parsed text.
+     * @throws TemplateException You are requested to check the exception for the specific error.
+     * @see TemplateCache#setDefault(TemplateCache) if the process-wide cache is set, the text is compiled through it, so a text that is parsed over and over is scanned only once.
+     */
+    public String parseSynchronously(CharSequence text, VariableResolver variableResolver) throws TemplateException {
+
+        return cachedTextParser(new TextParser(text, this)).parseSynchronously(variableResolver);
+    }
+
+    /**
+     *@apiNote Method to parse the text synchronously with the template instance, and write the parsed text straight into the output. This method works same as the {@link TextParser#parseSynchronously(Appendable)} method.
+     * @param text the text to parse.
+     * @param keyValueSets the set of identifier and their values, to look up at text and replace with their values.
+     * @param out the output to write the parsed text into, for example a {@link java.io.Writer}.
+     * @throws TemplateException You are requested to check the exception for the specific error.
+     * @throws IOException if the output throws an error while writing.
+     */
+    public void parseSynchronously(CharSequence text, HashMap<String, String> keyValueSets, Appendable out) throws TemplateException, IOException {
+
+        new TextParser(text, this, keyValueSets).parseSynchronously(out);
     }
 
     /**
@@ -166,11 +315,19 @@ public final class Template {
      * @param parseEventListener the listener to receive the event callbacks.
      * @throws TemplateException You are requested to check the exception for the specific error.
      */
-    public void parseAsynchronously(String text, HashMap<String, String> keyValueSets, ParseEventListener parseEventListener) throws TemplateException {
+    public void parseAsynchronously(CharSequence text, HashMap<String, String> keyValueSets, ParseEventListener parseEventListener) throws TemplateException {
 
         new TextParser(text, this, keyValueSets).parseAsynchronously(parseEventListener);
     }
 
+    /**
+     * @apiNote Same as {@link #parseAsynchronously(CharSequence, HashMap, ParseEventListener)}, this method is kept so the code compiled with the version 2.0 still runs.
+     */
+    public void parseAsynchronously(String text, HashMap<String, String> keyValueSets, ParseEventListener parseEventListener) throws TemplateException {
+
+        parseAsynchronously((CharSequence) text, keyValueSets, parseEventListener);
+    }
+
     /**
      * @apiNote  Method to parse the text asynchronously with the template instance. This method works same as the {@link TextParser#parseAsynchronously(ParseEventListener)} method.
      * @param text the text to parse.
@@ -179,9 +336,77 @@ public final class Template {
      * @param isCheckForBasicSyntaxError if true, the parser will check for basic syntax error, otherwise it will not.
      * @throws TemplateException You are requested to check the exception for the specific error.
      */
+    public void parseAsynchronously(CharSequence text, HashMap<String, String> keyValueSets, ParseEventListener parseEventListener, Boolean isCheckForBasicSyntaxError) throws TemplateException {
+
+        new TextParser(text, this, keyValueSets, isCheckForBasicSyntaxError).parseAsynchronously(parseEventListener);
+    }
+
+    /**
+     * @apiNote Same as {@link #parseAsynchronously(CharSequence, HashMap, ParseEventListener, Boolean)}, this method is kept so the code compiled with the version 2.0 still runs.
+     */
     public void parseAsynchronously(String text, HashMap<String, String> keyValueSets, ParseEventListener parseEventListener, Boolean isCheckForBasicSyntaxError) throws TemplateException {
 
-        new TextParser(text, this, keyValueSets).parseAsynchronously(parseEventListener);
+        parseAsynchronously((CharSequence) text, keyValueSets, parseEventListener, isCheckForBasicSyntaxError);
+    }
+
+    /**
+     * @apiNote  Method to parse the text asynchronously with the template instance and the given executor. This method works same as the {@link TextParser#parseAsynchronously(ParseEventListener, Executor)} method.
+     * @param text the text to parse.
+     * @param keyValueSets the set of identifier and their values, to look up at text and replace with their values.
+     * @param parseEventListener the listener to receive the event callbacks.
+     * @param executor the executor to run the parsing task.
+     * @throws TemplateException You are requested to check the exception for the specific error.
+     */
+    public void parseAsynchronously(CharSequence text, HashMap<String, String> keyValueSets, ParseEventListener parseEventListener, Executor executor) throws TemplateException {
+
+        new TextParser(text, this, keyValueSets).parseAsynchronously(parseEventListener, executor);
+    }
+
+    /**
+     * @apiNote  Method to parse the text asynchronously with the template instance and the given executor. This method works same as the {@link TextParser#parseAsynchronously(ParseEventListener, Executor)} method.
+     * @param text the text to parse.
+     * @param keyValueSets the set of identifier and their values, to look up at text and replace with their values.
+     * @param parseEventListener the listener to receive the event callbacks.
+     * @param isCheckForBasicSyntaxError if true, the parser will check for basic syntax error, otherwise it will not.
+     * @param executor the executor to run the parsing task.
+     * @throws TemplateException You are requested to check the exception for the specific error.
+     */
+    public void parseAsynchronously(CharSequence text, HashMap<String, String> keyValueSets, ParseEventListener parseEventListener, Boolean isCheckForBasicSyntaxError, Executor executor) throws TemplateException {
+
+        new TextParser(text, this, keyValueSets, isCheckForBasicSyntaxError).parseAsynchronously(parseEventListener, executor);
+    }
+
+    /**
+     * @apiNote  Method to parse the text asynchronously with the template instance. This method works same as the {@link TextParser#parseAsync()} method.
+     * @param text the text to parse.
+     * @param keyValueSets the set of identifier and their values, to look up at text and replace with their values.
+     * @return the future of the parsed text, it is completed exceptionally with {@link TemplateException} if any error occurs during parsing.
+     */
+    public CompletableFuture<String> parseAsync(CharSequence text, HashMap<String, String> keyValueSets) {
+
+        return new TextParser(text, this, keyValueSets).parseAsync();
     }
 
+    /**
+     * @apiNote  Method to parse the text asynchronously with the template instance and the given executors. This method works same as the {@link TextParser#parseAsync(Executor, Executor)} method.
+     * @param text the text to parse.
+     * @param keyValueSets the set of identifier and their values, to look up at text and replace with their values.
+     * @param parseExecutor the executor to run the parsing task.
+     * @param callbackExecutor the executor to complete the future.
+     * @return the future of the parsed text, it is completed exceptionally with {@link TemplateException} if any error occurs during parsing.
+     */
+    public CompletableFuture<String> parseAsync(CharSequence text, HashMap<String, String> keyValueSets, Executor parseExecutor, Executor callbackExecutor) {
+
+        return new TextParser(text, this, keyValueSets).parseAsync(parseExecutor, callbackExecutor);
+    }
+
+
+    /**
+     * Method to compile the text of the parser through the process-wide cache, if it is set.
+     */
+    private static TextParser cachedTextParser(TextParser textParser) {
+
+        textParser.setTemplateCache(TemplateCache.getDefault());
+        return textParser;
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.escape;
+
+import java.io.IOException;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote An escaper that writes a value as one CSV field, as RFC 4180 defines. A value that has a comma, double quote or line break is put in double quotes,
+ * and each double quote in it is written twice. Any other value is written as it is.
+ */
+final class CsvEscaper implements Escaper {
+
+    /**
+     * The characters that make a value to be quoted.
+     */
+    private static final boolean[] NEEDS_QUOTE = new boolean[128];
+
+    static {
+        NEEDS_QUOTE[','] = true;
+        NEEDS_QUOTE['"'] = true;
+        NEEDS_QUOTE['\n'] = true;
+        NEEDS_QUOTE['\r'] = true;
+    }
+
+    @Override
+    public void escape(CharSequence value, Appendable out) throws IOException {
+
+        if (!needsQuote(value)) {
+            out.append(value);
+            return;
+        }
+
+        final int valueLen = value.length();
+        int runStart = 0;
+
+        out.append('"');
+        for (int i = 0; i < valueLen; i++) {
+            if (value.charAt(i) == '"') {
+                // Write the run with this double quote, then the double quote once more.
+                out.append(value, runStart, i + 1);
+                out.append('"');
+                runStart = i + 1;
+            }
+        }
+        out.append(value, runStart, valueLen);
+        out.append('"');
+    }
+
+    @Override
+    public String escape(String value) {
+        return needsQuote(value) ? Escaper.super.escape(value) : value;
+    }
+
+    /**
+     * Method to check if the value has a character, that makes it to be quoted.
+     */
+    private static boolean needsQuote(CharSequence value) {
+
+        final int valueLen = value.length();
+        for (int i = 0; i < valueLen; i++) {
+            char c = value.charAt(i);
+            if (c < NEEDS_QUOTE.length && NEEDS_QUOTE[c]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.escape;
+
+import java.io.IOException;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote An escaper writes a value into the output while the text is parsed, so the parsed text do not need another pass to be escaped.
+ * <p>
+ * An escaper is set for every identifier of a template with {@link dev.nurujjamanpollob.textparserlib.Template#Template(String, String, Escaper)}, or for one identifier with its name
+ * after a | character, for example *(name | html)*. The name after a | character is only read by a template made with an escaper, use {@link Escapers#RAW} to read it without escaping
+ * the other values. See {@link Escapers} for the built-in escapers.
+ * <p>
+ * An escaper must be thread safe, as one instance is used by every parse of a template.
+ */
+public interface Escaper {
+
+    /**
+     * Method to write the escaped value into the output.
+     *
+     * @param value the value to escape.
+     * @param out   the output to write the escaped value into.
+     * @throws IOException if the output throws an error while writing.
+     */
+    void escape(CharSequence value, Appendable out) throws IOException;
+
+    /**
+     * Method to escape a value into a String.
+     *
+     * @param value the value to escape.
+     * @return the escaped value.
+     */
+    default String escape(String value) {
+
+        StringBuilder escaped = new StringBuilder(value.length());
+        try {
+            escape(value, escaped);
+        } catch (IOException e) {
+            // StringBuilder never throws IOException.
+            throw new AssertionError(e);
+        }
+        return escaped.toString();
+    }
+}
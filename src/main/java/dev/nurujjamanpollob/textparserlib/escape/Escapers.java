@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.escape;
+
+import java.io.IOException;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class holds the built-in escapers, and finds an escaper by the name used after the | character of an identifier, for example *(name | html)*.
+ */
+public final class Escapers {
+
+    /**
+     * Suppress default constructor for non-instantiability.
+     */
+    private Escapers() {
+        throw new AssertionError("This class cannot be instantiated.");
+    }
+
+    /**
+     * Escaper for HTML text and attribute values, named "html". It escapes &amp;, &lt;, &gt;, " and '.
+     */
+    public static final Escaper HTML = new TableEscaper(htmlReplacements());
+
+    /**
+     * Escaper for the content of a JSON string, named "json". It escapes ", \ and the control characters.
+     */
+    public static final Escaper JSON = new TableEscaper(jsonReplacements());
+
+    /**
+     * Escaper for a CSV field, named "csv". See {@link CsvEscaper}.
+     */
+    public static final Escaper CSV = new CsvEscaper();
+
+    /**
+     * Escaper that writes the value as it is, named "raw". Use it to turn off the escaper of the template for one identifier, for example *(body | raw)*.
+     */
+    public static final Escaper RAW = new Escaper() {
+
+        @Override
+        public void escape(CharSequence value, Appendable out) throws IOException {
+            out.append(value);
+        }
+
+        @Override
+        public String escape(String value) {
+            return value;
+        }
+    };
+
+    /**
+     * Method to find a built-in escaper by its name.
+     *
+     * @param name the name of the escaper, html, json, csv or raw.
+     * @return the escaper, or null if there is no escaper with this name.
+     */
+    public static Escaper forName(String name) {
+
+        switch (name) {
+            case "html":
+                return HTML;
+            case "json":
+                return JSON;
+            case "csv":
+                return CSV;
+            case "raw":
+                return RAW;
+            default:
+                return null;
+        }
+    }
+
+    private static String[] htmlReplacements() {
+
+        final String[] replacements = new String['>' + 1];
+        replacements['&'] = "&amp;";
+        replacements['<'] = "&lt;";
+        replacements['>'] = "&gt;";
+        replacements['"'] = "&quot;";
+        replacements['\''] = "&#39;";
+        return replacements;
+    }
+
+    private static String[] jsonReplacements() {
+
+        final String[] replacements = new String['\\' + 1];
+        for (char c = 0; c < ' '; c++) {
+            replacements[c] = String.format("\\u%04x", (int) c);
+        }
+        replacements['\b'] = "\\b";
+        replacements['\t'] = "\\t";
+        replacements['\n'] = "\\n";
+        replacements['\f'] = "\\f";
+        replacements['\r'] = "\\r";
+        replacements['"'] = "\\\"";
+        replacements['\\'] = "\\\\";
+        return replacements;
+    }
+}
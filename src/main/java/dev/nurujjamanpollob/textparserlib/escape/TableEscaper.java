@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.escape;
+
+import java.io.IOException;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote An escaper that replaces each character with the text from a lookup table. The characters that do not need to be escaped are written in runs, with one append for each run.
+ */
+final class TableEscaper implements Escaper {
+
+    /**
+     * Suppress default constructor for non-instantiability without parameters.
+     */
+    private TableEscaper() {
+        throw new AssertionError("This class cannot be instantiated without parameters.");
+    }
+
+    /**
+     * The replacement of each character, or null if the character is written as it is. A character after the end of the table is written as it is.
+     */
+    private final String[] replacements;
+
+    TableEscaper(String[] replacements) {
+        this.replacements = replacements;
+    }
+
+    @Override
+    public void escape(CharSequence value, Appendable out) throws IOException {
+
+        final int valueLen = value.length();
+        int runStart = 0;
+
+        for (int i = 0; i < valueLen; i++) {
+
+            char c = value.charAt(i);
+            if (c < replacements.length && replacements[c] != null) {
+                out.append(value, runStart, i);
+                out.append(replacements[c]);
+                runStart = i + 1;
+            }
+        }
+
+        out.append(value, runStart, valueLen);
+    }
+
+    @Override
+    public String escape(String value) {
+
+        // A value that has nothing to escape is returned as it is, without copying it.
+        final int valueLen = value.length();
+        for (int i = 0; i < valueLen; i++) {
+            char c = value.charAt(i);
+            if (c < replacements.length && replacements[c] != null) {
+                return Escaper.super.escape(value);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.event;
+
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.TextParser;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This interface is used to collect the metrics of each parse of {@link TextParser}, for example the time taken and the size of the text, see {@link ParseStatistics}.
+ * <p>
+ * The metrics are reported by {@link TextParser#parseSynchronously()}, {@link TextParser#parseInParallel()}, {@link TextParser#parseAsynchronously(dev.nurujjamanpollob.textparserlib.event.ParseEventListener)}
+ * and {@link TextParser#parseAsync()} with their overloads, and by the methods of {@link dev.nurujjamanpollob.textparserlib.Template} that use them.
+ * They are not reported by the methods, that write into an {@link Appendable}, look up the values with a resolver, or render a {@link dev.nurujjamanpollob.textparserlib.parser.CompiledTemplate} directly.
+ * The methods of this interface are invoked from the parsing thread, after the text is parsed, so they must return fast and must not throw.
+ * @see TextParser#setParseMetrics(ParseMetrics) to start collecting the metrics.
+ * @see dev.nurujjamanpollob.textparserlib.metrics.JmxParseMetrics to aggregate the metrics into a JMX MBean.
+ */
+public interface ParseMetrics {
+
+    /**
+     * This method is invoked when {@link TextParser} finishes parsing the text.
+     */
+    default void onParseFinished(ParseStatistics statistics) {}
+
+    /**
+     * This method is invoked when {@link TextParser} found an exception, see the exception for more information.
+     */
+    default void onParseFailed(ParseStatistics statistics, TemplateException templateException) {}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.event;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class holds the metrics of one parse, that are reported to {@link ParseMetrics}.
+ */
+public final class ParseStatistics {
+
+    /**
+     * Suppress default constructor for non-instantiability without parameters.
+     */
+    private ParseStatistics() {
+        throw new AssertionError("This class cannot be instantiated without parameters.");
+    }
+
+    private final long durationNanos;
+    private final long queueWaitNanos;
+    private final int inputLength;
+    private final int outputLength;
+    private final int placeholderCount;
+    private final int missingValueCount;
+    private final int defaultValueCount;
+
+    /**
+     * Create an instance of ParseStatistics class.
+     *
+     * @param durationNanos     the time taken to parse the text, in nanoseconds.
+     * @param queueWaitNanos    the time the parsing task waited for the executor, in nanoseconds. It is 0 for the synchronous parsing.
+     * @param inputLength       the length of the text, in characters.
+     * @param outputLength      the length of the parsed text, in characters, or -1 if the parse failed.
+     * @param placeholderCount  the number of identifiers found in the text.
+     * @param missingValueCount the number of mandatory identifiers, that has no value.
+     * @param defaultValueCount the number of optional identifiers, that has no value, so the default value is used.
+     */
+    public ParseStatistics(long durationNanos, long queueWaitNanos, int inputLength, int outputLength, int placeholderCount, int missingValueCount, int defaultValueCount) {
+        this.durationNanos = durationNanos;
+        this.queueWaitNanos = queueWaitNanos;
+        this.inputLength = inputLength;
+        this.outputLength = outputLength;
+        this.placeholderCount = placeholderCount;
+        this.missingValueCount = missingValueCount;
+        this.defaultValueCount = defaultValueCount;
+    }
+
+    /**
+     * @return the time taken to parse the text, in nanoseconds. It do not include the time waited for the executor.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return the time the parsing task waited for the executor, in nanoseconds. It is 0 for the synchronous parsing.
+     */
+    public long getQueueWaitNanos() {
+        return queueWaitNanos;
+    }
+
+    /**
+     * @return the length of the text, in characters.
+     */
+    public int getInputLength() {
+        return inputLength;
+    }
+
+    /**
+     * @return the length of the parsed text, in characters, or -1 if the parse failed.
+     */
+    public int getOutputLength() {
+        return outputLength;
+    }
+
+    /**
+     * @return the number of identifiers found in the text, an identifier used many times is counted each time. It is 0, if the text has any syntax error.
+     */
+    public int getPlaceholderCount() {
+        return placeholderCount;
+    }
+
+    /**
+     * @return the number of mandatory identifiers, that has no value. The parse fails, if this is not 0.
+     */
+    public int getMissingValueCount() {
+        return missingValueCount;
+    }
+
+    /**
+     * @return the number of optional identifiers, that has no value, so the default value is used.
+     */
+    public int getDefaultValueCount() {
+        return defaultValueCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ParseStatistics{" +
+                "durationNanos=" + durationNanos +
+                ", queueWaitNanos=" + queueWaitNanos +
+                ", inputLength=" + inputLength +
+                ", outputLength=" + outputLength +
+                ", placeholderCount=" + placeholderCount +
+                ", missingValueCount=" + missingValueCount +
+                ", defaultValueCount=" + defaultValueCount +
+                '}';
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.metrics;
+
+import dev.nurujjamanpollob.textparserlib.event.ParseMetrics;
+import dev.nurujjamanpollob.textparserlib.event.ParseStatistics;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class aggregates the metrics of the parses, and exposes them as a JMX MBean, so the parse time can be watched and alerted on with any JMX client.
+ * <pre>
+ *     <code>
+ *         // Register the MBean as dev.nurujjamanpollob.textparserlib:type=ParseMetrics, and report every parse to it
+ *         JmxParseMetrics metrics = JmxParseMetrics.register();
+ *         TextParser.setParseMetrics(metrics);
+ *     </code>
+ * </pre>
+ * The metrics are added with {@link LongAdder}, so the parsing threads do not wait for each other to report.
+ * <p>
+ * JMX is not available on Android, this class is the only one that use it, so do not use this class on Android.
+ */
+public final class JmxParseMetrics implements ParseMetrics, JmxParseMetricsMBean {
+
+    /**
+     * The name of the MBean registered by {@link #register()}.
+     */
+    public static final String DEFAULT_OBJECT_NAME = "dev.nurujjamanpollob.textparserlib:type=ParseMetrics";
+
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    private final LongAdder parseCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder totalDurationNanos = new LongAdder();
+    private final LongAccumulator maxDurationNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLong lastDurationNanos = new AtomicLong();
+    private final LongAdder queuedCount = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder totalInputLength = new LongAdder();
+    private final LongAdder totalOutputLength = new LongAdder();
+    private final LongAdder totalPlaceholderCount = new LongAdder();
+    private final LongAdder missingValueCount = new LongAdder();
+    private final LongAdder defaultValueCount = new LongAdder();
+
+    /**
+     * Create an instance, that is not registered as an MBean yet.
+     */
+    public JmxParseMetrics() {
+    }
+
+    /**
+     * Method to create an instance, and register it to the platform MBean server with the name {@value #DEFAULT_OBJECT_NAME}.
+     *
+     * @return the registered instance.
+     * @throws TemplateException if the MBean can not be registered, for example there is already an MBean with the same name.
+     */
+    public static JmxParseMetrics register() throws TemplateException {
+        return register(DEFAULT_OBJECT_NAME);
+    }
+
+    /**
+     * Method to create an instance, and register it to the platform MBean server.
+     *
+     * @param objectName the name of the MBean, for example to register one for each application in the same JVM.
+     * @return the registered instance.
+     * @throws TemplateException if the MBean can not be registered, for example the name is not valid, or there is already an MBean with the same name.
+     */
+    public static JmxParseMetrics register(String objectName) throws TemplateException {
+
+        if (objectName == null) {
+            throw new TemplateException("The object name cannot be null.");
+        }
+
+        final JmxParseMetrics metrics = new JmxParseMetrics();
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            server.registerMBean(metrics, new ObjectName(objectName));
+        } catch (JMException e) {
+            throw new TemplateException("The MBean can not be registered: " + e.getMessage());
+        }
+        return metrics;
+    }
+
+    @Override
+    public void onParseFinished(ParseStatistics statistics) {
+
+        parseCount.increment();
+        totalOutputLength.add(statistics.getOutputLength());
+        add(statistics);
+    }
+
+    @Override
+    public void onParseFailed(ParseStatistics statistics, TemplateException templateException) {
+
+        failureCount.increment();
+        add(statistics);
+    }
+
+    /**
+     * Method to add the metrics, that are reported for both successful and failed parses.
+     */
+    private void add(ParseStatistics statistics) {
+
+        final long duration = statistics.getDurationNanos();
+        totalDurationNanos.add(duration);
+        maxDurationNanos.accumulate(duration);
+        lastDurationNanos.set(duration);
+
+        // Only the asynchronous parses wait for an executor
+        if (statistics.getQueueWaitNanos() > 0) {
+            queuedCount.increment();
+            totalQueueWaitNanos.add(statistics.getQueueWaitNanos());
+            maxQueueWaitNanos.accumulate(statistics.getQueueWaitNanos());
+        }
+
+        totalInputLength.add(statistics.getInputLength());
+        totalPlaceholderCount.add(statistics.getPlaceholderCount());
+        missingValueCount.add(statistics.getMissingValueCount());
+        defaultValueCount.add(statistics.getDefaultValueCount());
+    }
+
+    @Override
+    public long getParseCount() {
+        return parseCount.sum();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    @Override
+    public double getAverageDurationMicros() {
+        return average(totalDurationNanos.sum(), parseCount.sum() + failureCount.sum());
+    }
+
+    @Override
+    public double getMaxDurationMicros() {
+        return maxDurationNanos.get() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getLastDurationMicros() {
+        return lastDurationNanos.get() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getAverageQueueWaitMicros() {
+        return average(totalQueueWaitNanos.sum(), queuedCount.sum());
+    }
+
+    @Override
+    public double getMaxQueueWaitMicros() {
+        return maxQueueWaitNanos.get() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public long getTotalInputLength() {
+        return totalInputLength.sum();
+    }
+
+    @Override
+    public long getTotalOutputLength() {
+        return totalOutputLength.sum();
+    }
+
+    @Override
+    public long getTotalPlaceholderCount() {
+        return totalPlaceholderCount.sum();
+    }
+
+    @Override
+    public long getMissingValueCount() {
+        return missingValueCount.sum();
+    }
+
+    @Override
+    public long getDefaultValueCount() {
+        return defaultValueCount.sum();
+    }
+
+    /**
+     * Reset all the values to zero. A parse reported at the same time can be partly reset.
+     */
+    @Override
+    public void reset() {
+        parseCount.reset();
+        failureCount.reset();
+        totalDurationNanos.reset();
+        maxDurationNanos.reset();
+        lastDurationNanos.set(0);
+        queuedCount.reset();
+        totalQueueWaitNanos.reset();
+        maxQueueWaitNanos.reset();
+        totalInputLength.reset();
+        totalOutputLength.reset();
+        totalPlaceholderCount.reset();
+        missingValueCount.reset();
+        defaultValueCount.reset();
+    }
+
+    /**
+     * Method to get the average of a total in nanoseconds, in microseconds.
+     */
+    private static double average(long totalNanos, long count) {
+        return count == 0 ? 0 : totalNanos / NANOS_PER_MICRO / count;
+    }
+
+    @Override
+    public String toString() {
+        return "JmxParseMetrics{" +
+                "parseCount=" + getParseCount() +
+                ", failureCount=" + getFailureCount() +
+                ", averageDurationMicros=" + getAverageDurationMicros() +
+                ", maxDurationMicros=" + getMaxDurationMicros() +
+                ", averageQueueWaitMicros=" + getAverageQueueWaitMicros() +
+                '}';
+    }
+}
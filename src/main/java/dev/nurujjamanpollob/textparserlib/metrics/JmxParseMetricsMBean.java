@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.metrics;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote The management interface of {@link JmxParseMetrics}. All the values are aggregated since the MBean is created, or since the last {@link #reset()}.
+ */
+public interface JmxParseMetricsMBean {
+
+    /**
+     * @return the number of texts parsed successfully.
+     */
+    long getParseCount();
+
+    /**
+     * @return the number of parses failed with an exception.
+     */
+    long getFailureCount();
+
+    /**
+     * @return the average time taken to parse a text, in microseconds.
+     */
+    double getAverageDurationMicros();
+
+    /**
+     * @return the longest time taken to parse a text, in microseconds.
+     */
+    double getMaxDurationMicros();
+
+    /**
+     * @return the time taken by the last parse, in microseconds.
+     */
+    double getLastDurationMicros();
+
+    /**
+     * @return the average time an asynchronous parsing task waited for the executor, in microseconds. The synchronous parses are not counted.
+     */
+    double getAverageQueueWaitMicros();
+
+    /**
+     * @return the longest time an asynchronous parsing task waited for the executor, in microseconds.
+     */
+    double getMaxQueueWaitMicros();
+
+    /**
+     * @return the total length of the parsed texts, in characters.
+     */
+    long getTotalInputLength();
+
+    /**
+     * @return the total length of the texts produced by the successful parses, in characters.
+     */
+    long getTotalOutputLength();
+
+    /**
+     * @return the total number of identifiers found in the parsed texts.
+     */
+    long getTotalPlaceholderCount();
+
+    /**
+     * @return the total number of mandatory identifiers, that had no value.
+     */
+    long getMissingValueCount();
+
+    /**
+     * @return the total number of optional identifiers, that had no value, so the default value was used.
+     */
+    long getDefaultValueCount();
+
+    /**
+     * Reset all the values to zero.
+     */
+    void reset();
+}
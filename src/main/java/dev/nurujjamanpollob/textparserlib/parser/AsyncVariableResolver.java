@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This interface is used to look up the values of the identifiers asynchronously, for example from a remote cache or a disk.
+ * <p>
+ * {@link CompiledTemplate#renderAsync(AsyncVariableResolver)} starts the look up of every identifier found in the text at once, and renders the text when all of them are completed.
+ * So the render waits as long as the slowest look up, instead of the sum of all look ups. Each identifier name is looked up once per render, even if it is used many times.
+ * <pre>
+ *     <code>
+ *         CompletableFuture&lt;String&gt; parsedText = compiledTemplate.renderAsync(name -&gt; remoteCache.getAsync(name));
+ *     </code>
+ * </pre>
+ * @see VariableResolver for the synchronous look up.
+ */
+@FunctionalInterface
+public interface AsyncVariableResolver {
+
+    /**
+     * Method to start the look up of the value of an identifier. This method must return fast, and do the look up asynchronously.
+     *
+     * @param variableName the identifier name.
+     * @return the future of the value, it can be completed with null if there is no value. The default value is used for an optional identifier without value.
+     */
+    CompletableFuture<String> resolve(String variableName);
+
+    /**
+     * Method to create an asynchronous resolver, that runs each look up of the synchronous resolver with the executor.
+     * For example, to run blocking look ups at the same time with {@link ParserExecutors#getVirtualThreadExecutor()}.
+     *
+     * @param variableResolver the synchronous resolver.
+     * @param executor         the executor to run each look up.
+     * @return the asynchronous resolver.
+     * @throws TemplateException if the resolver or executor is null.
+     */
+    static AsyncVariableResolver fromResolver(VariableResolver variableResolver, Executor executor) throws TemplateException {
+
+        if (variableResolver == null || executor == null) {
+            throw new TemplateException("The variable resolver or executor cannot be null.");
+        }
+
+        return variableName -> ParserExecutors.supplyAsync(() -> variableResolver.resolve(variableName), executor, Runnable::run);
+    }
+}
@@ -0,0 +1,1364 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.KeyObjects;
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class represents a text that is already parsed with a {@link Template}. The text is scanned only once, when this class is instantiated,
+ * and split into literal text and identifiers. The identifiers are decoded into {@link KeyObjects} at the same time, so optional identifiers and their default values are read only once.
+ * <p>
+ * Later on, the same instance can be rendered many times against different identifier values, without scanning the text again.
+ * This is recommended, when the same text is parsed again and again, for example in a mail-merge job.
+ * <pre>
+ *     <code>
+ *         Template template = new Template("*(", ")*");
+ *
+ *         // Scan the text once
+ *         CompiledTemplate compiledTemplate = new CompiledTemplate("Hi, I am *(name)* and I am *(?age defVal=\"20\")* years old.", template);
+ *
+ *         // Render as many times as needed
+ *         String parsedText = compiledTemplate.render(keyValuePairs);
+ *     </code>
+ * </pre>
+ * Every distinct identifier name is given an integer slot when the text is compiled. {@link #render(Map)} looks up each name only once per render,
+ * and {@link #render(VariableBinding)} takes the values already placed by slot, so the render loop only does array indexing.
+ * <p>
+ * The render methods that take an {@link Appendable}, such as a {@link Writer}, write the parsed text straight into it, so the whole parsed text is never held in memory.
+ * Mandatory identifiers are checked before anything is written, so a missing value do not leave a half written output.
+ * <p>
+ * The text can be any {@link CharSequence}, for example a {@link String}, {@link StringBuilder} or a {@link java.nio.CharBuffer} over a decoded file. It is scanned and rendered in place, and never copied.
+ * <p>
+ * This class is immutable, and can be rendered from multiple threads at the same time, as long as the text is not changed.
+ * @see TextParser
+ */
+public final class CompiledTemplate {
+
+    /**
+     * Suppress default constructor for non-instantiability without parameters.
+     */
+    private CompiledTemplate() {
+        throw new AssertionError("This class cannot be instantiated without parameters.");
+    }
+
+    final CharSequence text;
+    private final Template template;
+
+    /**
+     * All the templates, the text is compiled with. The first one is {@link #template}.
+     */
+    private final Template[] templates;
+
+    /**
+     * Start index of each literal text. There is always one more literal text than identifiers, the literal text can be empty.
+     */
+    final int[] literalStarts;
+
+    /**
+     * End index (exclusive) of each literal text.
+     */
+    final int[] literalEnds;
+
+    /**
+     * Decoded identifiers, the identifier at index i is placed between literal text i and i + 1.
+     */
+    final KeyObjects[] identifiers;
+
+    /**
+     * Slot of each identifier, the identifiers with the same name share one slot.
+     */
+    final int[] identifierSlots;
+
+    /**
+     * Identifier name of each slot, in the order they first appear in the text.
+     */
+    private final String[] slotNames;
+
+    /**
+     * Slot of each identifier name.
+     */
+    private final Map<String, Integer> slotIndex;
+
+    /**
+     * Total length of the literal text, so the parsed text can be presized to its exact length.
+     */
+    private final int literalLength;
+
+    /**
+     * The placeholders, created on the first call of {@link #getPlaceholders()} and reused after that.
+     */
+    private volatile List<Placeholder> placeholders;
+
+    /**
+     * Create an instance of CompiledTemplate class.
+     *
+     * @param textToCompile the text to compile.
+     *                      This text will be parsed according to definition of {@link Template} class. The text is not copied, so it must not be changed while this instance is used.
+     * @param template      the template that will be used to determine the variables in the text.
+     * @throws TemplateException if the text or template is null, or the text has any syntax error.
+     */
+    public CompiledTemplate(CharSequence textToCompile, Template template) throws TemplateException {
+        this(textToCompile, template, false);
+    }
+
+    /**
+     * Create an instance of CompiledTemplate class.
+     *
+     * @param textToCompile            the text to compile.
+     *                                 This text will be parsed according to definition of {@link Template} class. The text is not copied, so it must not be changed while this instance is used.
+     * @param template                 the template that will be used to determine the variables in the text.
+     * @param isUseBasicSyntaxChecking if true, the parser will check for basic syntax errors.
+     * @throws TemplateException if the text or template is null, or the text has any syntax error.
+     */
+    public CompiledTemplate(CharSequence textToCompile, Template template, Boolean isUseBasicSyntaxChecking) throws TemplateException {
+        this(textToCompile, new Template[]{template}, scan(textToCompile, template, isUseBasicSyntaxChecking, new ArrayList<>()));
+    }
+
+    /**
+     * Create an instance of CompiledTemplate class, with more than one template. For example, a text that use both *(name)* and ${name} is compiled with the templates ("*(", ")*") and ("${", "}").
+     * <p>
+     * The start templates are found in one pass through the text, so the text is not scanned once for each template. When more than one start template is found at an index, the longest one is used.
+     * An identifier is closed by the end template of the same template it is started with.
+     * When basic syntax checking is used, only the start template of the same template is a syntax error inside an identifier.
+     *
+     * @param textToCompile            the text to compile. The text is not copied, so it must not be changed while this instance is used.
+     * @param templates                the templates that will be used to determine the variables in the text. Each template must have a distinct start template.
+     * @param isUseBasicSyntaxChecking if true, the parser will check for basic syntax errors.
+     * @throws TemplateException if the text or templates is null or empty, two templates have the same start template, or the text has any syntax error.
+     */
+    public CompiledTemplate(CharSequence textToCompile, List<Template> templates, Boolean isUseBasicSyntaxChecking) throws TemplateException {
+        this(textToCompile, toTemplateArray(templates), isUseBasicSyntaxChecking);
+    }
+
+    /**
+     * Create an instance of CompiledTemplate class, with the templates already checked.
+     */
+    CompiledTemplate(CharSequence textToCompile, Template[] templates, boolean isUseBasicSyntaxChecking) throws TemplateException {
+        this(textToCompile, templates, scan(textToCompile, templates, isUseBasicSyntaxChecking, new ArrayList<>()));
+    }
+
+    /**
+     * Create an instance of CompiledTemplate class from the already scanned segments of the text.
+     */
+    CompiledTemplate(CharSequence text, Template[] templates, Segments segments) {
+
+        this.text = text;
+        this.template = templates[0];
+        this.templates = templates;
+        this.literalStarts = segments.literalStarts;
+        this.literalEnds = segments.literalEnds;
+        this.identifiers = segments.identifiers;
+
+        int length = 0;
+        for (int k = 0; k < literalStarts.length; k++) {
+            length += literalEnds[k] - literalStarts[k];
+        }
+        this.literalLength = length;
+
+        // Give every distinct identifier name a slot.
+        final Map<String, Integer> slots = new HashMap<>();
+        final List<String> names = new ArrayList<>();
+        this.identifierSlots = new int[identifiers.length];
+
+        for (int i = 0; i < identifiers.length; i++) {
+
+            String keyName = identifiers[i].getKeyName();
+            Integer slot = slots.get(keyName);
+
+            if (slot == null) {
+                slot = names.size();
+                slots.put(keyName, slot);
+                names.add(keyName);
+            }
+            identifierSlots[i] = slot;
+        }
+
+        this.slotNames = names.toArray(new String[0]);
+        this.slotIndex = Collections.unmodifiableMap(slots);
+    }
+
+    /**
+     * @param textToCompile            the text to compile.
+     * @param template                 the template that will be used to determine the variables in the text.
+     * @param isUseBasicSyntaxChecking if true, the parser will check for basic syntax errors.
+     * @return the compiled text.
+     * @throws TemplateException if the text or template is null, or the text has any syntax error. The error is the same as the constructor would throw.
+     * @apiNote Compile a large text in parallel. The text is split into parts, and the templates of each part are found in parallel with the common {@link java.util.concurrent.ForkJoinPool}.
+     * Later on, the found templates are paired in order, so an identifier that is split between two parts is read correctly. A small text is compiled in the calling thread.
+     * @see #renderInParallel(Map)
+     */
+    public static CompiledTemplate compileInParallel(CharSequence textToCompile, Template template, Boolean isUseBasicSyntaxChecking) throws TemplateException {
+
+        if (textToCompile == null || template == null) {
+            throw new TemplateException("Input string or template instance is null.");
+        }
+
+        if (textToCompile.length() < ParallelScanner.PARALLEL_THRESHOLD) {
+            return new CompiledTemplate(textToCompile, template, isUseBasicSyntaxChecking);
+        }
+
+        return new CompiledTemplate(textToCompile, new Template[]{template}, ParallelScanner.scan(textToCompile, template, isUseBasicSyntaxChecking));
+    }
+
+    /**
+     * Method to check the templates, and copy them into an array.
+     */
+    static Template[] toTemplateArray(List<Template> templates) throws TemplateException {
+
+        if (templates == null || templates.isEmpty()) {
+            throw new TemplateException("Templates cannot be null or empty.");
+        }
+
+        final Template[] templateArray = templates.toArray(new Template[0]);
+        final Set<String> startTemplates = new HashSet<>();
+
+        for (Template template : templateArray) {
+            if (template == null) {
+                throw new TemplateException("Templates cannot be null or empty.");
+            }
+            if (!startTemplates.add(template.getStartTemplate())) {
+                throw new TemplateException("Two templates cannot have the same start template.");
+            }
+        }
+        return templateArray;
+    }
+
+    /**
+     * Method to find the error the version 2.0 parser reported for a text that can not be compiled. That parser read the text from the start, and looked up the value of each identifier
+     * as it was found, so a mandatory identifier without value before the syntax error is reported instead of the syntax error.
+     *
+     * @param textToCompile            the text, that can not be compiled.
+     * @param templates                the templates the text is compiled with.
+     * @param isUseBasicSyntaxChecking if true, the parser will check for basic syntax errors.
+     * @param variableResolver         the resolver to look up the values of the identifiers before the syntax error.
+     * @param compileError             the error thrown while compiling the text.
+     * @return the first error of the text, in text order.
+     * @throws TemplateException if the resolver throws.
+     */
+    static TemplateException firstErrorInTextOrder(CharSequence textToCompile, Template[] templates, boolean isUseBasicSyntaxChecking, VariableResolver variableResolver,
+                                                   TemplateException compileError) throws TemplateException {
+
+        final List<KeyObjects> identifiersBeforeError = new ArrayList<>();
+        final TemplateException syntaxError;
+
+        try {
+            scan(textToCompile, templates, isUseBasicSyntaxChecking, identifiersBeforeError);
+            return compileError;
+        } catch (TemplateException e) {
+            syntaxError = e;
+        }
+
+        // Each identifier name is looked up once, a name already found with a value is not looked up again.
+        final Set<String> namesWithValue = new HashSet<>();
+        for (KeyObjects identifier : identifiersBeforeError) {
+
+            if (identifier.isOptional() || namesWithValue.contains(identifier.getKeyName())) {
+                continue;
+            }
+
+            if (resolveValue(variableResolver, identifier.getKeyName()) == null) {
+                return IdentifierParser.noValuePassed(identifier);
+            }
+            namesWithValue.add(identifier.getKeyName());
+        }
+        return syntaxError;
+    }
+
+    /**
+     * Method to scan the text into literal text and identifiers, with one or more templates. The identifiers are added into the list as they are decoded,
+     * so the list holds the identifiers before the syntax error, when one is thrown.
+     */
+    private static Segments scan(CharSequence textToCompile, Template[] templates, boolean isUseBasicSyntaxChecking, List<KeyObjects> identifierList) throws TemplateException {
+
+        if (templates.length == 1) {
+            return scan(textToCompile, templates[0], isUseBasicSyntaxChecking, identifierList);
+        }
+
+        if (textToCompile == null) {
+            throw new TemplateException("Input string or template instance is null.");
+        }
+
+        final List<Integer> literalStartList = new ArrayList<>();
+        final List<Integer> literalEndList = new ArrayList<>();
+
+        final String[] startTemplates = new String[templates.length];
+        for (int t = 0; t < templates.length; t++) {
+            startTemplates[t] = templates[t].getStartTemplate();
+        }
+
+        final StartTagAutomaton automaton = new StartTagAutomaton(startTemplates);
+        final int textLen = textToCompile.length();
+
+        // Start index of the current literal text.
+        int literalStart = 0;
+
+        // First start template of each template at or after the content of the last identifier of that template, used by basic syntax checking.
+        final int[] nextStartTemplates = new int[templates.length];
+        Arrays.fill(nextStartTemplates, -1);
+
+        while (true) {
+
+            // Look for any of the start templates in one pass.
+            final long match = automaton.find(textToCompile, literalStart);
+            if (match < 0) {
+                break;
+            }
+
+            final int i = StartTagAutomaton.matchStart(match);
+            final int t = StartTagAutomaton.matchPattern(match);
+            final String startTemplate = startTemplates[t];
+            final String endTemplate = templates[t].getEndTemplate();
+
+            final int contentStart = i + startTemplate.length();
+            final int j = TextSearch.indexOf(textToCompile, endTemplate, contentStart);
+
+            // Check for syntax error only when isUseBasicSyntaxChecking is true.
+            if (isUseBasicSyntaxChecking) {
+
+                if (nextStartTemplates[t] < contentStart) {
+                    nextStartTemplates[t] = TextSearch.indexOf(textToCompile, startTemplate, contentStart);
+                    if (nextStartTemplates[t] < 0) {
+                        // There is no more start template, so never look for it again.
+                        nextStartTemplates[t] = textLen + 1;
+                    }
+                }
+
+                // If we found another start template of the same template before the end template, this is likely a syntax error.
+                if (nextStartTemplates[t] <= textLen && (j < 0 || nextStartTemplates[t] <= j)) {
+                    throw new TemplateException("Syntax error. Found another start template, while iterating for end template. There is likely a syntax error in the text. Please fix that first.");
+                }
+            }
+
+            if (j < 0) {
+                throw new TemplateException("End template not found.");
+            }
+
+            literalStartList.add(literalStart);
+            literalEndList.add(i);
+            identifierList.add(IdentifierParser.generateKeyObjectFromIdentifier(textToCompile.subSequence(contentStart, j).toString(), templates[t]));
+
+            // Move the pointer to the end of end template.
+            literalStart = j + endTemplate.length();
+        }
+
+        literalStartList.add(literalStart);
+        literalEndList.add(textLen);
+
+        return new Segments(toIntArray(literalStartList), toIntArray(literalEndList), identifierList.toArray(new KeyObjects[0]));
+    }
+
+    /**
+     * Method to scan the text into literal text and identifiers. The identifiers are added into the list as they are decoded.
+     */
+    private static Segments scan(CharSequence textToCompile, Template template, boolean isUseBasicSyntaxChecking, List<KeyObjects> identifierList) throws TemplateException {
+
+        if (textToCompile == null || template == null) {
+            throw new TemplateException("Input string or template instance is null.");
+        }
+
+        final List<Integer> literalStartList = new ArrayList<>();
+        final List<Integer> literalEndList = new ArrayList<>();
+
+        final String startTemplate = template.getStartTemplate();
+        final String endTemplate = template.getEndTemplate();
+        final int textLen = textToCompile.length();
+        final int templateStartLen = startTemplate.length();
+        final int templateEndLen = endTemplate.length();
+
+        // Start index of the current literal text.
+        int literalStart = 0;
+
+        // First start template at or after the content of the last identifier, used by basic syntax checking.
+        // Remembering it keep the scan linear, as a start template found far away is reused for the following identifiers.
+        int nextStartTemplate = -1;
+
+        while (true) {
+
+            // Look for the start template in place, this do not allocate, unlike comparing substring for every character.
+            final int i = nextStartTemplate >= literalStart ? nextStartTemplate : TextSearch.indexOf(textToCompile, startTemplate, literalStart);
+            if (i < 0 || i > textLen) {
+                break;
+            }
+
+            final int contentStart = i + templateStartLen;
+            final int j = TextSearch.indexOf(textToCompile, endTemplate, contentStart);
+
+            // Check for syntax error only when isUseBasicSyntaxChecking is true.
+            if (isUseBasicSyntaxChecking) {
+
+                if (nextStartTemplate < contentStart) {
+                    nextStartTemplate = TextSearch.indexOf(textToCompile, startTemplate, contentStart);
+                    if (nextStartTemplate < 0) {
+                        // There is no more start template, so never look for it again.
+                        nextStartTemplate = textLen + 1;
+                    }
+                }
+
+                // If we found another start template before the end template, this is likely a syntax error.
+                if (nextStartTemplate <= textLen && (j < 0 || nextStartTemplate <= j)) {
+                    throw new TemplateException("Syntax error. Found another start template, while iterating for end template. There is likely a syntax error in the text. Please fix that first.");
+                }
+            }
+
+            if (j < 0) {
+                // ?? Why not closing text with ending identifier?
+                throw new TemplateException("End template not found.");
+            }
+
+            literalStartList.add(literalStart);
+            literalEndList.add(i);
+            identifierList.add(IdentifierParser.generateKeyObjectFromIdentifier(textToCompile.subSequence(contentStart, j).toString(), template));
+
+            // Move the pointer to the end of end template.
+            literalStart = j + templateEndLen;
+        }
+
+        literalStartList.add(literalStart);
+        literalEndList.add(textLen);
+
+        return new Segments(toIntArray(literalStartList), toIntArray(literalEndList), identifierList.toArray(new KeyObjects[0]));
+    }
+
+    /**
+     * @param keyValuePairs the key-value pairs that will be used to replace the variables in the text.
+     * @return the parsed text.
+     * @throws TemplateException if the key-value pairs is null, or a mandatory identifier has no value.
+     * @apiNote Render the compiled text with the given identifier values.
+     */
+    public String render(Map<String, String> keyValuePairs) throws TemplateException {
+
+        return render(keyValuePairs, (RenderBuffers) null, null);
+    }
+
+    /**
+     * @param keyValuePairs the key-value pairs that will be used to replace the variables in the text.
+     * @param buffers       the buffers to render into, for example {@link RenderBuffers#threadLocal(int)}, so a buffer that has grown is reused by the next render. Null to allocate a new buffer.
+     * @return the parsed text.
+     * @throws TemplateException if the key-value pairs is null, or a mandatory identifier has no value.
+     * @apiNote Render the compiled text with the given identifier values, into a buffer taken from the buffers. The buffers are passed with each render, so a compiled template shared through a
+     * {@link TemplateCache} renders the same way for every caller.
+     */
+    public String render(Map<String, String> keyValuePairs, RenderBuffers buffers) throws TemplateException {
+
+        return render(keyValuePairs, buffers, null);
+    }
+
+    /**
+     * @param keyValuePairs the key-value pairs that will be used to replace the variables in the text.
+     * @param out           the output to write the parsed text into, for example a {@link Writer}.
+     * @throws TemplateException if the key-value pairs or output is null, or a mandatory identifier has no value. Nothing is written in this case.
+     * @throws IOException       if the output throws an error while writing.
+     * @apiNote Render the compiled text with the given identifier values, and write the parsed text straight into the output.
+     */
+    public void render(Map<String, String> keyValuePairs, Appendable out) throws TemplateException, IOException {
+
+        writeValues(valuesFromKeyValuePairs(keyValuePairs), out);
+    }
+
+    /**
+     * @param variableResolver the resolver that will be used to look up the values of the identifiers.
+     * @return the parsed text.
+     * @throws TemplateException if the resolver is null or throws, or a mandatory identifier has no value.
+     * @apiNote Render the compiled text with the values looked up by the resolver. The resolver is asked only for the identifiers found in the text, and once for each identifier name,
+     * even if the identifier is used many times.
+     */
+    public String render(VariableResolver variableResolver) throws TemplateException {
+
+        return render(variableResolver, (RenderBuffers) null);
+    }
+
+    /**
+     * @param variableResolver the resolver that will be used to look up the values of the identifiers.
+     * @param out              the output to write the parsed text into, for example a {@link Writer}.
+     * @throws TemplateException if the resolver or output is null, the resolver throws, or a mandatory identifier has no value. Nothing is written in this case.
+     * @throws IOException       if the output throws an error while writing.
+     * @apiNote Render the compiled text with the values looked up by the resolver, and write the parsed text straight into the output.
+     * All the values are looked up before anything is written.
+     */
+    public void render(VariableResolver variableResolver, Appendable out) throws TemplateException, IOException {
+
+        writeValues(valuesFromResolver(variableResolver), out);
+    }
+
+    /**
+     * @param variableBinding the identifier values placed by slot, created with {@link #newBinding()}.
+     * @return the parsed text.
+     * @throws TemplateException if the binding is null or is not created by this instance, or a mandatory identifier has no value.
+     * @apiNote Render the compiled text with the given identifier values. This is the fastest way to render, as there is no map look up at all.
+     */
+    public String render(VariableBinding variableBinding) throws TemplateException {
+
+        if (variableBinding == null || variableBinding.getCompiledTemplate() != this) {
+            throw new TemplateException("Variable binding is null or is not created by this compiled template.");
+        }
+
+        return renderValues(variableBinding.values);
+    }
+
+    /**
+     * @param variableBinding the identifier values placed by slot, created with {@link #newBinding()}.
+     * @param out             the output to write the parsed text into, for example a {@link Writer}.
+     * @throws TemplateException if the binding is null or is not created by this instance, the output is null, or a mandatory identifier has no value. Nothing is written in this case.
+     * @throws IOException       if the output throws an error while writing.
+     * @apiNote Render the compiled text with the given identifier values, and write the parsed text straight into the output.
+     */
+    public void render(VariableBinding variableBinding, Appendable out) throws TemplateException, IOException {
+
+        if (variableBinding == null || variableBinding.getCompiledTemplate() != this) {
+            throw new TemplateException("Variable binding is null or is not created by this compiled template.");
+        }
+
+        writeValues(variableBinding.values, out);
+    }
+
+    /**
+     * @param keyValuePairs the key-value pairs that will be used to replace the variables in the text.
+     * @return the future of the parsed text, it is completed exceptionally with {@link TemplateException} if any error occurs during rendering.
+     * @apiNote Render the compiled text asynchronously with the shared executor, see {@link ParserExecutors#getDefaultExecutor()}.
+     */
+    public CompletableFuture<String> renderAsync(Map<String, String> keyValuePairs) {
+
+        return renderAsync(keyValuePairs, ParserExecutors.getDefaultExecutor(), Runnable::run);
+    }
+
+    /**
+     * @param keyValuePairs    the key-value pairs that will be used to replace the variables in the text.
+     * @param renderExecutor   the executor to run the rendering task.
+     * @param callbackExecutor the executor to complete the future, so the dependent stages added without an executor of their own are run by this executor.
+     * @return the future of the parsed text, it is completed exceptionally with {@link TemplateException} if any error occurs during rendering.
+     * @apiNote Render the compiled text asynchronously with the given executors.
+     */
+    public CompletableFuture<String> renderAsync(Map<String, String> keyValuePairs, Executor renderExecutor, Executor callbackExecutor) {
+
+        return ParserExecutors.supplyAsync(() -> render(keyValuePairs), renderExecutor, callbackExecutor);
+    }
+
+    /**
+     * @param variableResolver the resolver that will be used to look up the values of the identifiers asynchronously.
+     * @return the future of the parsed text, it is completed exceptionally with {@link TemplateException} if the resolver is null or a mandatory identifier has no value,
+     * or with the exception of a look up that failed.
+     * @apiNote Render the compiled text with the values looked up asynchronously. The look up of every identifier name found in the text is started at once,
+     * and the text is rendered by the thread that completes the last look up.
+     */
+    public CompletableFuture<String> renderAsync(AsyncVariableResolver variableResolver) {
+
+        return renderAsync(variableResolver, Runnable::run);
+    }
+
+    /**
+     * @param variableResolver the resolver that will be used to look up the values of the identifiers asynchronously.
+     * @param renderExecutor   the executor to render the text, when all the look ups are completed. The future is also completed from this executor.
+     * @return the future of the parsed text, it is completed exceptionally with {@link TemplateException} if the resolver or executor is null, the executor do not accept the task,
+     * or a mandatory identifier has no value, or with the exception of a look up that failed.
+     * @apiNote Render the compiled text with the values looked up asynchronously. The look up of every identifier name found in the text is started at once,
+     * so the render waits as long as the slowest look up, instead of the sum of all look ups.
+     */
+    public CompletableFuture<String> renderAsync(AsyncVariableResolver variableResolver, Executor renderExecutor) {
+
+        final CompletableFuture<String> future = new CompletableFuture<>();
+
+        if (variableResolver == null || renderExecutor == null) {
+            future.completeExceptionally(new TemplateException("The variable resolver or executor cannot be null."));
+            return future;
+        }
+
+        // Start all the look ups, each value is placed into its slot when it is completed.
+        final String[] values = new String[slotNames.length];
+        final CompletableFuture<?>[] lookups = new CompletableFuture<?>[slotNames.length];
+
+        for (int slot = 0; slot < slotNames.length; slot++) {
+
+            final int valueSlot = slot;
+            CompletableFuture<String> lookup;
+
+            try {
+                lookup = variableResolver.resolve(slotNames[slot]);
+            } catch (RuntimeException e) {
+                lookup = new CompletableFuture<>();
+                lookup.completeExceptionally(e);
+            }
+
+            lookups[slot] = lookup == null ? CompletableFuture.completedFuture(null) : lookup.thenAccept(value -> values[valueSlot] = value);
+        }
+
+        CompletableFuture.allOf(lookups).whenComplete((ignored, error) -> {
+            try {
+                renderExecutor.execute(() -> {
+                    if (error != null) {
+                        future.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                        return;
+                    }
+
+                    try {
+                        future.complete(renderValues(values));
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(new TemplateException("The executor did not accept the rendering task."));
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * @param keyValuePairs the key-value pairs that will be used to replace the variables in the text.
+     * @return the parsed text.
+     * @throws TemplateException if the key-value pairs is null, or a mandatory identifier has no value.
+     * @apiNote Render a large compiled text in parallel. The text is split into parts, never inside an identifier, the parts are rendered in parallel with the common {@link java.util.concurrent.ForkJoinPool}
+     * and joined in order. A small text is rendered in the calling thread.
+     */
+    public String renderInParallel(Map<String, String> keyValuePairs) throws TemplateException {
+
+        return renderInParallel(keyValuePairs, null, null);
+    }
+
+    /**
+     * Method to render in parallel, and count the identifiers without value while checking them.
+     *
+     * @param buffers the buffers to render a small text into, or null to allocate a new buffer.
+     * @param counts  the counts to add to, or null to not count.
+     */
+    String renderInParallel(Map<String, String> keyValuePairs, RenderBuffers buffers, RenderCounts counts) throws TemplateException {
+
+        final String[] values = valuesFromKeyValuePairs(keyValuePairs);
+        final int textLen = text.length();
+
+        if (textLen < ParallelScanner.PARALLEL_THRESHOLD) {
+            return renderValues(values, buffers, counts);
+        }
+
+        checkMandatoryValues(values, counts);
+
+        // Split the text into parts, a part boundary inside an identifier is moved to the start of the identifier.
+        final int parts = ParallelScanner.partCount();
+        final int[] boundaries = new int[parts + 1];
+
+        for (int part = 1; part < parts; part++) {
+
+            int boundary = ParallelScanner.partBoundary(textLen, parts, part);
+            int k = firstIdentifierFrom(boundary + 1) - 1;
+
+            if (k >= 0 && boundary < literalStarts[k + 1]) {
+                boundary = literalEnds[k];
+            }
+            boundaries[part] = boundary;
+        }
+        boundaries[parts] = textLen;
+
+        final StringBuilder[] renderedParts = new StringBuilder[parts];
+
+        IntStream.range(0, parts).parallel().forEach(part -> {
+            StringBuilder renderedPart = new StringBuilder(boundaries[part + 1] - boundaries[part]);
+            renderRange(values, boundaries[part], boundaries[part + 1], renderedPart);
+            renderedParts[part] = renderedPart;
+        });
+
+        int length = 0;
+        for (StringBuilder renderedPart : renderedParts) {
+            length += renderedPart.length();
+        }
+
+        final StringBuilder parsedText = new StringBuilder(length);
+        for (StringBuilder renderedPart : renderedParts) {
+            parsedText.append(renderedPart);
+        }
+        return parsedText.toString();
+    }
+
+    /**
+     * @param keyValuePairsList the list of key-value pairs, the text is rendered once for each of them.
+     * @return the results in the same order as the key-value pairs. A render that failed holds its exception, see {@link RenderResult#getException()}.
+     * @throws TemplateException if the list is null.
+     * @apiNote Render the compiled text with each key-value pairs of the list. The renders are run in parallel with the common {@link java.util.concurrent.ForkJoinPool}.
+     */
+    public List<RenderResult> renderAll(List<Map<String, String>> keyValuePairsList) throws TemplateException {
+
+        if (keyValuePairsList == null) {
+            throw new TemplateException("The list of identifier with values cannot be null.");
+        }
+
+        final RenderResult[] results = new RenderResult[keyValuePairsList.size()];
+
+        IntStream.range(0, results.length)
+                .parallel()
+                .forEach(i -> results[i] = renderResult(i, keyValuePairsList.get(i)));
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * @param keyValuePairsList the list of key-value pairs, the text is rendered once for each of them.
+     * @param executor          the executor to run the renders, for example {@link ParserExecutors#getVirtualThreadExecutor()}.
+     * @return the results in the same order as the key-value pairs. A render that failed, for example with a missing value or a runtime exception of the map, holds its exception,
+     * see {@link RenderResult#getException()}. It do not fail the other renders.
+     * @throws TemplateException if the list or executor is null, or the executor do not accept a task. The tasks already accepted are still run, but their results are not returned.
+     * @apiNote Render the compiled text with each key-value pairs of the list, and wait for all the renders. A bounded pool, that is a {@link ThreadPoolExecutor} or {@link ForkJoinPool},
+     * is given the list split into a few parts for each available processor. Any other executor, for example a thread per task executor, is given one task for each key-value pairs,
+     * so a slow render do not hold back the others.
+     */
+    public List<RenderResult> renderAll(List<Map<String, String>> keyValuePairsList, Executor executor) throws TemplateException {
+
+        if (keyValuePairsList == null || executor == null) {
+            throw new TemplateException("The list of identifier with values or executor cannot be null.");
+        }
+
+        final boolean isBoundedPool = executor instanceof ThreadPoolExecutor || executor instanceof ForkJoinPool;
+        final int partSize = isBoundedPool ? Math.max(1, keyValuePairsList.size() / (4 * Runtime.getRuntime().availableProcessors())) : 1;
+
+        return renderAll(keyValuePairsList, executor, partSize);
+    }
+
+    /**
+     * @param keyValuePairsList the list of key-value pairs, the text is rendered once for each of them.
+     * @param executor          the executor to run the renders.
+     * @param partSize          the number of key-value pairs rendered by each task, 1 to run a task for each key-value pairs.
+     * @return the results in the same order as the key-value pairs. A render that failed holds its exception, see {@link RenderResult#getException()}. It do not fail the other renders.
+     * @throws TemplateException if the list or executor is null, the part size is not positive, or the executor do not accept a task. The tasks already accepted are still run,
+     *                           but their results are not returned.
+     * @apiNote Render the compiled text with each key-value pairs of the list, the list is split into parts of the given size and each part is run as a task of the executor.
+     */
+    public List<RenderResult> renderAll(List<Map<String, String>> keyValuePairsList, Executor executor, int partSize) throws TemplateException {
+
+        if (keyValuePairsList == null || executor == null) {
+            throw new TemplateException("The list of identifier with values or executor cannot be null.");
+        }
+
+        if (partSize <= 0) {
+            throw new TemplateException("The part size must be positive.");
+        }
+
+        final RenderResult[] results = new RenderResult[keyValuePairsList.size()];
+        final List<CompletableFuture<Void>> parts = new ArrayList<>();
+
+        try {
+            for (int partStart = 0; partStart < results.length; partStart += partSize) {
+
+                final int start = partStart;
+                final int end = (int) Math.min(results.length, (long) partStart + partSize);
+
+                parts.add(CompletableFuture.runAsync(() -> {
+                    for (int i = start; i < end; i++) {
+                        results[i] = renderResult(i, keyValuePairsList.get(i));
+                    }
+                }, executor));
+            }
+        } catch (RejectedExecutionException e) {
+            TemplateException templateException = new TemplateException("The executor did not accept the rendering task.");
+            templateException.initCause(e);
+            throw templateException;
+        }
+
+        CompletableFuture.allOf(parts.toArray(CompletableFuture<?>[]::new)).join();
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * @param keyValuePairsStream the stream of key-value pairs, the text is rendered once for each of them.
+     * @return the stream of results, in the encounter order of the key-value pairs. A render that failed holds its exception, see {@link RenderResult#getException()}.
+     * The results have no index, as the position in a stream is not known.
+     * @apiNote Render the compiled text with each key-value pairs of the stream. The renders are run in parallel, when the given stream is parallel.
+     */
+    public Stream<RenderResult> renderAll(Stream<Map<String, String>> keyValuePairsStream) {
+
+        return keyValuePairsStream.map(keyValuePairs -> renderResult(-1, keyValuePairs));
+    }
+
+    /**
+     * Create a new, empty binding to put identifier values by slot.
+     *
+     * @return the new binding.
+     */
+    public VariableBinding newBinding() {
+        return new VariableBinding(this, new String[slotNames.length]);
+    }
+
+    /**
+     * Create a new render session, that keeps the parsed text and updates only the identifiers whose value is changed.
+     *
+     * @param keyValuePairs the initial key-value pairs, they are copied into the session.
+     * @return the new session.
+     * @throws TemplateException if the key-value pairs is null, or a mandatory identifier has no value.
+     * @see RenderSession
+     */
+    public RenderSession newSession(Map<String, String> keyValuePairs) throws TemplateException {
+
+        final String[] values = valuesFromKeyValuePairs(keyValuePairs);
+        checkMandatoryValues(values);
+        return new RenderSession(this, values);
+    }
+
+    /**
+     * Get the placeholders found in the text, with their identifier name, optional status, default value and position, without rendering the text.
+     * For example, to look up only the values the text needs before rendering it.
+     * <p>
+     * The placeholders are created once, and the same list is returned after that. A compiled text taken from a {@link TemplateCache} keeps them too.
+     *
+     * @return the placeholders, in the order they are found in the text. The list cannot be changed.
+     */
+    public List<Placeholder> getPlaceholders() {
+
+        List<Placeholder> result = placeholders;
+
+        // Two threads may create the list at the same time, both lists are the same.
+        if (result == null) {
+            Placeholder[] array = new Placeholder[identifiers.length];
+            for (int i = 0; i < identifiers.length; i++) {
+                int startIndex = literalEnds[i];
+                array[i] = new Placeholder(i, identifierSlots[i], identifiers[i], templateAt(startIndex), startIndex, literalStarts[i + 1]);
+            }
+            result = Collections.unmodifiableList(Arrays.asList(array));
+            placeholders = result;
+        }
+        return result;
+    }
+
+    /**
+     * Get the distinct identifier names found in the text, that is, the name of each slot.
+     *
+     * @return the identifier names, in the order they first appear in the text. The list cannot be changed.
+     */
+    public List<String> getVariableNames() {
+        return Collections.unmodifiableList(Arrays.asList(slotNames));
+    }
+
+    /**
+     * Get the identifier names that must have a value to render the text. A name that is optional in one place and mandatory in another, is mandatory.
+     *
+     * @return the identifier names, in the order they first appear in the text.
+     */
+    public List<String> getMandatoryVariableNames() {
+
+        final boolean[] isMandatory = new boolean[slotNames.length];
+        for (int i = 0; i < identifiers.length; i++) {
+            if (!identifiers[i].isOptional()) {
+                isMandatory[identifierSlots[i]] = true;
+            }
+        }
+
+        final List<String> names = new ArrayList<>();
+        for (int slot = 0; slot < slotNames.length; slot++) {
+            if (isMandatory[slot]) {
+                names.add(slotNames[slot]);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Get the slot of an identifier name.
+     *
+     * @param variableName the identifier name.
+     * @return the slot, or -1 if the text do not use this identifier.
+     */
+    public int getSlot(String variableName) {
+
+        Integer slot = slotIndex.get(variableName);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * Get the number of slots, that is, the number of distinct identifier names.
+     *
+     * @return the number of slots.
+     */
+    public int getSlotCount() {
+        return slotNames.length;
+    }
+
+    /**
+     * Get the identifier name of a slot.
+     *
+     * @param slot the slot.
+     * @return the identifier name.
+     */
+    public String getSlotName(int slot) {
+        return slotNames[slot];
+    }
+
+    /**
+     * Method to render one item of a batch, and hold the exception instead of throwing it.
+     * A runtime exception, for example thrown by a map implementation, is held as the cause of a {@link TemplateException}, so it fails only this item.
+     */
+    RenderResult renderResult(int index, Map<String, String> keyValuePairs) {
+
+        try {
+            return new RenderResult(index, render(keyValuePairs), null);
+        } catch (TemplateException e) {
+            return new RenderResult(index, null, e);
+        } catch (RuntimeException e) {
+            TemplateException templateException = new TemplateException("Rendering failed: " + e);
+            templateException.initCause(e);
+            return new RenderResult(index, null, templateException);
+        }
+    }
+
+    /**
+     * Method to look up the value of each slot from key-value pairs. Each identifier name is looked up once, even if it is used many times in the text.
+     */
+    private String[] valuesFromKeyValuePairs(Map<String, String> keyValuePairs) throws TemplateException {
+
+        if (keyValuePairs == null) {
+            throw new TemplateException("Identifier with values is null.");
+        }
+
+        final String[] values = new String[slotNames.length];
+        for (int slot = 0; slot < values.length; slot++) {
+            values[slot] = keyValuePairs.get(slotNames[slot]);
+        }
+        return values;
+    }
+
+    /**
+     * Method to look up the value of each slot with the resolver. Each identifier name is resolved once, even if it is used many times in the text.
+     * The mandatory identifiers are resolved first, in the order they are found in the text, so a missing value fails the render before the other values are resolved.
+     */
+    private String[] valuesFromResolver(VariableResolver variableResolver) throws TemplateException {
+
+        if (variableResolver == null) {
+            throw new TemplateException("The variable resolver cannot be null.");
+        }
+
+        final String[] values = new String[slotNames.length];
+        final boolean[] resolved = new boolean[slotNames.length];
+
+        for (int i = 0; i < identifiers.length; i++) {
+
+            if (identifiers[i].isOptional()) {
+                continue;
+            }
+
+            final int slot = identifierSlots[i];
+            if (!resolved[slot]) {
+                values[slot] = resolveValue(variableResolver, slotNames[slot]);
+                resolved[slot] = true;
+            }
+            if (values[slot] == null) {
+                throw IdentifierParser.noValuePassed(identifiers[i]);
+            }
+        }
+
+        for (int slot = 0; slot < values.length; slot++) {
+            if (!resolved[slot]) {
+                values[slot] = resolveValue(variableResolver, slotNames[slot]);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Method to look up the value of an identifier name with the resolver. A runtime exception thrown by the resolver is held as the cause of a {@link TemplateException}.
+     */
+    private static String resolveValue(VariableResolver variableResolver, String variableName) throws TemplateException {
+
+        try {
+            return variableResolver.resolve(variableName);
+        } catch (RuntimeException e) {
+            TemplateException templateException = new TemplateException("Variable '" + variableName + "' can not be resolved: " + e);
+            templateException.initCause(e);
+            throw templateException;
+        }
+    }
+
+    /**
+     * Method to render with the key-value pairs into the buffers, and count the identifiers without value while checking them.
+     *
+     * @param buffers the buffers to render into, or null to allocate a new buffer.
+     * @param counts  the counts to add to, or null to not count.
+     */
+    String render(Map<String, String> keyValuePairs, RenderBuffers buffers, RenderCounts counts) throws TemplateException {
+
+        if (buffers != null && counts == null) {
+            return renderKeyValuePairs(keyValuePairs, buffers);
+        }
+        return renderValues(valuesFromKeyValuePairs(keyValuePairs), buffers, counts);
+    }
+
+    /**
+     * @param variableResolver the resolver that will be used to look up the values of the identifiers.
+     * @param buffers          the buffers to render into, for example {@link RenderBuffers#threadLocal(int)}, so a buffer that has grown is reused by the next render. Null to allocate a new buffer.
+     * @return the parsed text.
+     * @throws TemplateException if the resolver is null or throws, or a mandatory identifier has no value.
+     * @apiNote Render the compiled text with the values looked up by the resolver, into a buffer taken from the buffers.
+     */
+    public String render(VariableResolver variableResolver, RenderBuffers buffers) throws TemplateException {
+
+        return renderValues(valuesFromResolver(variableResolver), buffers, null);
+    }
+
+    /**
+     * Method to render the text with the values placed by slot.
+     */
+    private String renderValues(String[] values) throws TemplateException {
+
+        return renderValues(values, null, null);
+    }
+
+    /**
+     * Method to render the text with the values placed by slot into the buffers, if they are not null. The identifiers without value are counted while checking them, if the counts is not null.
+     */
+    private String renderValues(String[] values, RenderBuffers buffers, RenderCounts counts) throws TemplateException {
+
+        checkMandatoryValues(values, counts);
+
+        // The exact length, unless a value is escaped.
+        long length = literalLength;
+        for (int i = 0; i < identifiers.length; i++) {
+            String val = values[identifierSlots[i]];
+            length += (val != null ? val : IdentifierParser.defaultValue(identifiers[i])).length();
+        }
+
+        final int capacity = (int) Math.min(length, Integer.MAX_VALUE - 8);
+        final StringBuilder parsedText = buffers != null ? buffers.acquire(capacity) : new StringBuilder(capacity);
+
+        try {
+            appendValues(values, parsedText);
+            return parsedText.toString();
+        } catch (IOException e) {
+            // StringBuilder never throws IOException.
+            throw new AssertionError(e);
+        } finally {
+            if (buffers != null) {
+                buffers.release(parsedText);
+            }
+        }
+    }
+
+    /**
+     * Method to render the text with the key-value pairs into a buffer, without an array of the values. So a render allocates only the parsed text, once the buffer has grown.
+     * A mandatory identifier without value is found while writing, that is fine as the buffer is not seen by the caller.
+     */
+    private String renderKeyValuePairs(Map<String, String> keyValuePairs, RenderBuffers buffers) throws TemplateException {
+
+        if (keyValuePairs == null) {
+            throw new TemplateException("Identifier with values is null.");
+        }
+
+        final StringBuilder parsedText = buffers.acquire(text.length());
+
+        try {
+            for (int i = 0; i < identifiers.length; i++) {
+
+                parsedText.append(text, literalStarts[i], literalEnds[i]);
+
+                String val = keyValuePairs.get(identifiers[i].getKeyName());
+                IdentifierParser.appendValue(identifiers[i], IdentifierParser.valueOrDefault(identifiers[i], val), parsedText);
+            }
+
+            parsedText.append(text, literalStarts[identifiers.length], literalEnds[identifiers.length]);
+            return parsedText.toString();
+        } finally {
+            buffers.release(parsedText);
+        }
+    }
+
+    /**
+     * Method to write the text with the values placed by slot into the output.
+     * Every mandatory identifier is checked before anything is written.
+     */
+    private void writeValues(String[] values, Appendable out) throws TemplateException, IOException {
+
+        if (out == null) {
+            throw new TemplateException("The output cannot be null.");
+        }
+
+        checkMandatoryValues(values);
+        appendValues(values, out);
+    }
+
+    /**
+     * Method to write the text with the values placed by slot into the output, every mandatory identifier must be already checked.
+     */
+    private void appendValues(String[] values, Appendable out) throws IOException {
+
+        for (int i = 0; i < identifiers.length; i++) {
+
+            appendRange(out, literalStarts[i], literalEnds[i]);
+
+            String val = values[identifierSlots[i]];
+            IdentifierParser.appendValue(identifiers[i], val != null ? val : IdentifierParser.defaultValue(identifiers[i]), out);
+        }
+
+        appendRange(out, literalStarts[identifiers.length], literalEnds[identifiers.length]);
+    }
+
+    /**
+     * Method to check every mandatory identifier has a value.
+     */
+    private void checkMandatoryValues(String[] values) throws TemplateException {
+
+        checkMandatoryValues(values, null);
+    }
+
+    /**
+     * Method to check every mandatory identifier has a value. If the counts is not null, every identifier without value is counted before the first mandatory one is thrown,
+     * an identifier used many times is counted each time.
+     */
+    private void checkMandatoryValues(String[] values, RenderCounts counts) throws TemplateException {
+
+        int firstMissing = -1;
+
+        for (int i = 0; i < identifiers.length; i++) {
+
+            if (values[identifierSlots[i]] != null) {
+                continue;
+            }
+
+            if (identifiers[i].isOptional()) {
+                if (counts != null) {
+                    counts.defaultValueCount++;
+                }
+            } else if (counts == null) {
+                throw IdentifierParser.noValuePassed(identifiers[i]);
+            } else {
+                counts.missingValueCount++;
+                if (firstMissing < 0) {
+                    firstMissing = i;
+                }
+            }
+        }
+
+        if (firstMissing >= 0) {
+            throw IdentifierParser.noValuePassed(identifiers[firstMissing]);
+        }
+    }
+
+    /**
+     * Method to find the template of an identifier, that is the template with the longest start template found at the index, the same as the scan.
+     */
+    private Template templateAt(int index) {
+
+        Template found = template;
+        int foundLength = -1;
+
+        for (Template candidate : templates) {
+            String startTemplate = candidate.getStartTemplate();
+            if (startTemplate.length() > foundLength && TextSearch.startsWith(text, index, startTemplate)) {
+                found = candidate;
+                foundLength = startTemplate.length();
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Method to render the source text from one index to another, with the values placed by slot. Both index must not be inside an identifier.
+     */
+    private void renderRange(String[] values, int from, int to, StringBuilder out) {
+
+        // The first identifier that starts at or after the range start.
+        int k = firstIdentifierFrom(from);
+        int pos = from;
+
+        while (k < identifiers.length && literalEnds[k] < to) {
+
+            out.append(text, pos, literalEnds[k]);
+
+            String val = values[identifierSlots[k]];
+            IdentifierParser.appendValue(identifiers[k], val != null ? val : IdentifierParser.defaultValue(identifiers[k]), out);
+
+            pos = literalStarts[k + 1];
+            k++;
+        }
+
+        out.append(text, pos, to);
+    }
+
+    /**
+     * Method to find the first identifier, that starts at or after the index.
+     */
+    private int firstIdentifierFrom(int index) {
+
+        int low = 0;
+        int high = identifiers.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (literalEnds[mid] < index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Method to write a range of the source text into the output.
+     * {@link Writer#append(CharSequence, int, int)} creates a new String for the range, so a {@link Writer} is written by offset instead, when the source text is a String.
+     */
+    private void appendRange(Appendable out, int start, int end) throws IOException {
+
+        if (start == end) {
+            return;
+        }
+
+        if (out instanceof Writer && text instanceof String) {
+            ((Writer) out).write((String) text, start, end - start);
+        } else {
+            out.append(text, start, end);
+        }
+    }
+
+    /**
+     * Get the template used to compile the text, the first one if the text is compiled with more than one template.
+     *
+     * @return the template.
+     */
+    public Template getTemplate() {
+        return template;
+    }
+
+    /**
+     * Get all the templates used to compile the text.
+     *
+     * @return the templates, in the order they are given.
+     */
+    public List<Template> getTemplates() {
+        return Collections.unmodifiableList(Arrays.asList(templates));
+    }
+
+    /**
+     * Get the text this instance is compiled from.
+     *
+     * @return the source text.
+     */
+    public CharSequence getText() {
+        return text;
+    }
+
+    /**
+     * Get the number of identifiers found in the text.
+     *
+     * @return the number of identifiers.
+     */
+    public int getIdentifierCount() {
+        return identifiers.length;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledTemplate{" +
+                "templates=" + Arrays.toString(templates) +
+                ", identifierCount=" + identifiers.length +
+                '}';
+    }
+
+    private static int[] toIntArray(List<Integer> list) {
+
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * The number of identifiers without value of a render, they are counted while the values are checked, so the values are not looked up again.
+     */
+    static final class RenderCounts {
+
+        int missingValueCount;
+        int defaultValueCount;
+    }
+
+    /**
+     * The literal text and identifiers of a scanned text.
+     */
+    static final class Segments {
+
+        final int[] literalStarts;
+        final int[] literalEnds;
+        final KeyObjects[] identifiers;
+
+        Segments(int[] literalStarts, int[] literalEnds, KeyObjects[] identifiers) {
+            this.literalStarts = literalStarts;
+            this.literalEnds = literalEnds;
+            this.identifiers = identifiers;
+        }
+    }
+}
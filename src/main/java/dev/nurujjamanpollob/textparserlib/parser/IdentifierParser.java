@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.KeyObjects;
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.escape.Escaper;
+import dev.nurujjamanpollob.textparserlib.escape.Escapers;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.io.IOException;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class is used to decode the identifier text found between the start and end template into {@link KeyObjects},
+ * and to resolve the final value of an identifier. It is shared by {@link TextParser} and {@link CompiledTemplate}, so both of them read identifiers in the same way.
+ */
+final class IdentifierParser {
+
+    /**
+     * Parameter name that define the default value of an optional identifier.
+     */
+    private static final String DEF_VALUE_IDENTIFIER = "defVal=\"";
+
+    /**
+     * Suppress default constructor for non-instantiability.
+     */
+    private IdentifierParser() {
+        throw new AssertionError("This class is not intended to be instantiated.");
+    }
+
+    /**
+     * This method extract all necessary information from the identifier, the escaper after the | character is not read.
+     *
+     * @param keyData the identifier to extract information from.
+     * @return the keyObjects.
+     * @throws TemplateException if there is key is optional but no optional value is provided.
+     */
+    static KeyObjects generateKeyObjectFromIdentifier(String keyData) throws TemplateException {
+
+        // Check if the key started with ? mark, this should be optional.
+        if (keyData.startsWith("?")) {
+
+            String[] keyAndDefVal = extractIdentifierNameAndDefValue(keyData.substring(1));
+            return new KeyObjects(true, keyAndDefVal[0], keyAndDefVal[1]);
+        }
+
+        return new KeyObjects(false, keyData, null);
+    }
+
+    /**
+     * This method extract all necessary information from the identifier, with its escaper.
+     * <p>
+     * If the template reads the escaper suffix, the escaper is the name of a built-in escaper after the last | character, for example *(name | html)*. Otherwise, the escaper of the template is used.
+     * A | character that is not followed by the name of a built-in escaper, or of a template that does not read the suffix, is a part of the identifier, as it was before escapers.
+     *
+     * @param keyData  the identifier to extract information from.
+     * @param template the template the identifier is written with.
+     * @return the keyObjects.
+     * @throws TemplateException if there is key is optional but no optional value is provided.
+     */
+    static KeyObjects generateKeyObjectFromIdentifier(String keyData, Template template) throws TemplateException {
+
+        Escaper escaper = null;
+
+        final int bar = template.isEscaperSuffixEnabled() ? keyData.lastIndexOf('|') : -1;
+        if (bar >= 0) {
+            escaper = Escapers.forName(keyData.substring(bar + 1).trim());
+            if (escaper != null) {
+                int keyEnd = bar;
+                while (keyEnd > 0 && Character.isWhitespace(keyData.charAt(keyEnd - 1))) {
+                    keyEnd--;
+                }
+                keyData = keyData.substring(0, keyEnd);
+            }
+        }
+
+        if (escaper == null) {
+            escaper = template.getEscaper();
+        }
+
+        final KeyObjects keyObjects = generateKeyObjectFromIdentifier(keyData);
+        if (escaper == null) {
+            return keyObjects;
+        }
+        return new KeyObjects(keyObjects.isOptional(), keyObjects.getKeyName(), keyObjects.getOptionalValue(), escaper);
+    }
+
+    /**
+     * Method to find the defVal parameter of an optional identifier, the same way as it is read while decoding.
+     *
+     * @param keyData the identifier, as it is written between the start and end template.
+     * @return the index of the defVal parameter in the identifier, or -1 if the identifier is not optional or has no defVal parameter.
+     */
+    static int indexOfDefValue(String keyData) {
+
+        if (!keyData.startsWith("?")) {
+            return -1;
+        }
+
+        // The identifier name ends at the first whitespace.
+        int nameEnd = 1;
+        while (nameEnd < keyData.length() && !Character.isWhitespace(keyData.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        return keyData.indexOf(DEF_VALUE_IDENTIFIER, nameEnd);
+    }
+
+    /**
+     * Method to write the value of an identifier into the output, with the escaper of the identifier.
+     *
+     * @param keyObjects the decoded identifier.
+     * @param val        the value to write, the value passed or the default value.
+     * @param out        the output to write the value into.
+     * @throws IOException if the output throws an error while writing.
+     */
+    static void appendValue(KeyObjects keyObjects, String val, Appendable out) throws IOException {
+
+        final Escaper escaper = keyObjects.getEscaper();
+        if (escaper == null) {
+            out.append(val);
+        } else {
+            escaper.escape(val, out);
+        }
+    }
+
+    /**
+     * Method to write the value of an identifier into a StringBuilder, with the escaper of the identifier.
+     *
+     * @param keyObjects the decoded identifier.
+     * @param val        the value to write, the value passed or the default value.
+     * @param out        the output to write the value into.
+     */
+    static void appendValue(KeyObjects keyObjects, String val, StringBuilder out) {
+
+        final Escaper escaper = keyObjects.getEscaper();
+        if (escaper == null) {
+            out.append(val);
+            return;
+        }
+
+        try {
+            escaper.escape(val, out);
+        } catch (IOException e) {
+            // StringBuilder never throws IOException.
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Method to get the value of an identifier as it is written, with the escaper of the identifier.
+     *
+     * @param keyObjects the decoded identifier.
+     * @param val        the value, the value passed or the default value.
+     * @return the escaped value.
+     */
+    static String escapedValue(KeyObjects keyObjects, String val) {
+
+        final Escaper escaper = keyObjects.getEscaper();
+        return escaper == null ? val : escaper.escape(val);
+    }
+
+    /**
+     * Method to get the final value of an identifier.
+     *
+     * @param keyObjects the decoded identifier.
+     * @param val        the value passed for this identifier, or null if there is no value passed.
+     * @return the value to put in place of the identifier.
+     * @throws TemplateException if the identifier is mandatory and there is no value passed.
+     */
+    static String valueOrDefault(KeyObjects keyObjects, String val) throws TemplateException {
+
+        if (keyObjects.isOptional()) {
+
+            return val != null ? val : defaultValue(keyObjects);
+        }
+
+        if (val != null) {
+            return val;
+        }
+
+        throw noValuePassed(keyObjects);
+    }
+
+    /**
+     * Method to get the default value of an optional identifier, as it is written.
+     *
+     * @param keyObjects the decoded identifier.
+     * @return the default value, or "null" if the def value is not closed, as the version 2.0 wrote it.
+     */
+    static String defaultValue(KeyObjects keyObjects) {
+
+        return String.valueOf(keyObjects.getOptionalValue());
+    }
+
+    /**
+     * Method to create the exception for a mandatory identifier, that has no value passed.
+     *
+     * @param keyObjects the decoded identifier.
+     * @return the exception to throw.
+     */
+    static TemplateException noValuePassed(KeyObjects keyObjects) {
+
+        return new TemplateException("Variable '" + keyObjects.getKeyName() + "' has no value passed. try to put value though constructor or putVariableNameAndValue method.");
+    }
+
+    /**
+     * Method to extract identifier name and defValue from the key data
+     *
+     * @param keyData the key data containing identifier name and def value.
+     * @return KeyObjects the key object containing identifier name and def value. The first element is the identifier name, the second element is the def value.
+     * @throws TemplateException if the key data is not valid, such as missing identifier name or def value.
+     */
+    private static String[] extractIdentifierNameAndDefValue(String keyData) throws TemplateException {
+
+        final int keyLen = keyData.length();
+
+        // The identifier name ends at the first whitespace.
+        int nameEnd = 0;
+        while (nameEnd < keyLen && !Character.isWhitespace(keyData.charAt(nameEnd))) {
+            nameEnd++;
+        }
+
+        if (nameEnd == keyLen) {
+            throw new TemplateException("Def value not found, you can define one using defVal=\"defValue\"");
+        }
+
+        if (nameEnd + 1 >= keyLen) {
+            // There is likely no def value, an optional parameter must have a def value
+            throw new TemplateException("Missing def value for optional parameter.");
+        }
+
+        // The def value parameter must have at least one character after it, the closing double quote.
+        int defValStart = keyData.indexOf(DEF_VALUE_IDENTIFIER, nameEnd + 1);
+        if (defValStart < 0 || defValStart + DEF_VALUE_IDENTIFIER.length() >= keyLen) {
+            throw new TemplateException("Def value not found, you can define one using defVal=\"defValue\"");
+        }
+
+        final int valueStart = defValStart + DEF_VALUE_IDENTIFIER.length();
+
+        // Created only when the def value has an escaped double quote, otherwise the def value is a substring of the key data.
+        StringBuilder defValueExtraction = null;
+        int runStart = valueStart;
+
+        // End point is a double quote, and *" is an escaped double quote.
+        for (int k = valueStart; k < keyLen; k++) {
+
+            char c = keyData.charAt(k);
+
+            if (c == '"') {
+                String defValue = defValueExtraction == null ? keyData.substring(valueStart, k) : defValueExtraction.append(keyData, runStart, k).toString();
+                return new String[]{keyData.substring(0, nameEnd), defValue};
+            } else if (c == '*' && k + 1 < keyLen && keyData.charAt(k + 1) == '"') {
+
+                if (defValueExtraction == null) {
+                    defValueExtraction = new StringBuilder(keyLen - valueStart);
+                }
+
+                // Add the escape char to the def value.
+                defValueExtraction.append(keyData, runStart, k).append('"');
+                k++;
+                runStart = k + 1;
+            }
+        }
+
+        // The def value is not closed, it has no def value, as the version 2.0 did.
+        return new String[]{keyData.substring(0, nameEnd), null};
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class is used to parse a UTF-8 encoded file into another file. The input file is mapped into memory with {@link FileChannel#map(FileChannel.MapMode, long, long)}
+ * and parsed as bytes with {@link Utf8TemplateRenderer}, so the literal text is copied from the mapped memory into the output file without decoding it.
+ * Files larger than a mapping window are mapped window by window.
+ * <p>
+ * The parsed text is written into a hidden file next to the output file, and moved over the output file only when the whole input file is parsed.
+ * So a parse that fails, for example with a missing value, leaves no partial output behind. The replaced output file keeps its POSIX permissions, and its owner and group when this process is allowed to set them,
+ * other attributes, such as the creation time or an access control list, are not kept.
+ * @see TextParser#renderFile(Path, Path, Template, Map)
+ */
+final class MappedFileRenderer {
+
+    /**
+     * Maximum size of a mapped window, an identifier must fit in a window.
+     */
+    static final int MAX_WINDOW_SIZE = 1 << 30;
+
+    /**
+     * Size of the output buffer, small writes are collected into this buffer, so they do not need a system call each.
+     */
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Suppress default constructor for non-instantiability.
+     */
+    private MappedFileRenderer() {
+        throw new AssertionError("This class is not intended to be instantiated.");
+    }
+
+    /**
+     * Method to parse the input file into the output file.
+     *
+     * @param in                    the input file.
+     * @param out                   the output file, it is created or replaced only when the whole input file is parsed. It must not be the input file.
+     * @param template              the template that will be used to determine the variables in the text.
+     * @param keyValuePairs         the key-value pairs that will be used to replace the variables in the text.
+     * @param isCheckForBasicSyntax if true, the parser will check for basic syntax errors.
+     * @param windowSize            the maximum size of a mapped window.
+     * @throws TemplateException if any error occurs during parsing, or the output file is the input file.
+     * @throws IOException       if the input or output file throws an error.
+     */
+    static void render(Path in, Path out, Template template, Map<String, String> keyValuePairs, boolean isCheckForBasicSyntax, int windowSize) throws TemplateException, IOException {
+
+        // Resolve both paths once, so the output can not be changed into the input between the check and the write.
+        final Path source = in.toRealPath();
+        final Path target = realPathOrAbsolute(out);
+
+        if (source.equals(target)) {
+            throw new TemplateException("The output file cannot be the same as the input file.");
+        }
+
+        final Utf8TemplateRenderer renderer = new Utf8TemplateRenderer(template, keyValuePairs, isCheckForBasicSyntax);
+
+        // The parsed text is written into a file next to the output, and moved over the output once it is complete. So an error leaves the output as it was.
+        final Path temporary = target.resolveSibling("." + target.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+        boolean isMoved = false;
+
+        try {
+            try (FileChannel inChannel = FileChannel.open(source, StandardOpenOption.READ);
+                 FileChannel outChannel = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+
+                final ChannelSink sink = new ChannelSink(outChannel);
+                final long size = inChannel.size();
+                long position = 0;
+
+                do {
+                    final long windowLen = Math.min(size - position, windowSize);
+                    final boolean isLastWindow = position + windowLen == size;
+                    final MappedByteBuffer window = inChannel.map(FileChannel.MapMode.READ_ONLY, position, windowLen);
+
+                    renderer.render(window, isLastWindow, sink);
+
+                    if (!isLastWindow && window.position() == 0) {
+                        throw new TemplateException("End template not found within " + windowSize + " bytes.");
+                    }
+                    position += window.position();
+                } while (position < size);
+
+                sink.flush();
+            }
+
+            // The channels are closed already, so the file can be moved on every platform.
+            copyPosixAttributes(target, temporary);
+            moveOver(temporary, target);
+            isMoved = true;
+        } finally {
+            if (!isMoved) {
+                deleteQuietly(temporary);
+            }
+        }
+    }
+
+    /**
+     * Method to get the real path of a file, or the absolute path if the file does not exist yet.
+     */
+    private static Path realPathOrAbsolute(Path path) throws IOException {
+
+        try {
+            return path.toRealPath();
+        } catch (NoSuchFileException e) {
+            return path.toAbsolutePath().normalize();
+        }
+    }
+
+    /**
+     * Method to give the parsed file the permissions, owner and group of the output file it replaces, as writing into the output file in place would keep them.
+     * Nothing is copied if the output file does not exist yet, or the file system has no POSIX attributes.
+     */
+    private static void copyPosixAttributes(Path target, Path temporary) throws IOException {
+
+        final PosixFileAttributeView targetView = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+        if (targetView == null) {
+            return;
+        }
+
+        final PosixFileAttributes attributes;
+        try {
+            attributes = targetView.readAttributes();
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        final PosixFileAttributeView temporaryView = Files.getFileAttributeView(temporary, PosixFileAttributeView.class);
+
+        temporaryView.setPermissions(attributes.permissions());
+
+        // Only a privileged user can give a file away, so the owner and group are changed only when they differ, and the file keeps the owner of this process if it is not allowed.
+        try {
+            if (!attributes.owner().equals(Files.getOwner(temporary))) {
+                temporaryView.setOwner(attributes.owner());
+            }
+            if (!attributes.group().equals(temporaryView.readAttributes().group())) {
+                temporaryView.setGroup(attributes.group());
+            }
+        } catch (FileSystemException ignored) {
+            // Not allowed to change the owner or group.
+        }
+    }
+
+    /**
+     * Method to move the parsed file over the output, atomically if the file system supports it.
+     */
+    private static void moveOver(Path source, Path target) throws IOException {
+
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Method to delete a file, without hiding the error that is already thrown.
+     */
+    private static void deleteQuietly(Path path) {
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // The error of the parse is more useful than this one.
+        }
+    }
+
+    /**
+     * Output that collects small writes into a direct buffer, and writes large ones straight into the channel.
+     */
+    private static final class ChannelSink implements Utf8TemplateRenderer.ByteSink {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+
+        ChannelSink(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(ByteBuffer bytes) throws IOException {
+
+            if (bytes.remaining() <= buffer.remaining()) {
+                buffer.put(bytes);
+                return;
+            }
+
+            flush();
+
+            if (bytes.remaining() <= buffer.remaining()) {
+                buffer.put(bytes);
+            } else {
+                writeFully(bytes);
+            }
+        }
+
+        void flush() throws IOException {
+
+            buffer.flip();
+            writeFully(buffer);
+            buffer.clear();
+        }
+
+        private void writeFully(ByteBuffer bytes) throws IOException {
+
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.KeyObjects;
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class is used to scan a large text in parallel, see {@link CompiledTemplate#compileInParallel(CharSequence, Template, Boolean)}.
+ * <p>
+ * The text is split into parts at any point, and every start and end template that begins in a part is found in parallel. A template can continue into the next part, so no template is missed.
+ * Later on, the found templates are paired in order, in the same way as the sequential scan does, this only walks the found templates, not the text.
+ * At last, the identifiers are decoded in parallel. The result and the first error are exactly the same as the sequential scan.
+ */
+final class ParallelScanner {
+
+    /**
+     * Text shorter than this, in characters, is not worth to split.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    /**
+     * Suppress default constructor for non-instantiability.
+     */
+    private ParallelScanner() {
+        throw new AssertionError("This class is not intended to be instantiated.");
+    }
+
+    /**
+     * Method to scan the text into literal text and identifiers in parallel.
+     *
+     * @param text                  the text to scan.
+     * @param template              the template that will be used to determine the variables in the text.
+     * @param isCheckForBasicSyntax if true, the parser will check for basic syntax errors.
+     * @return the scanned segments.
+     * @throws TemplateException if the text has any syntax error.
+     */
+    static CompiledTemplate.Segments scan(CharSequence text, Template template, boolean isCheckForBasicSyntax) throws TemplateException {
+
+        final String startTemplate = template.getStartTemplate();
+        final String endTemplate = template.getEndTemplate();
+        final int textLen = text.length();
+        final int templateStartLen = startTemplate.length();
+        final int templateEndLen = endTemplate.length();
+
+        // Find every start and end template in parallel.
+        final int parts = partCount();
+        final int[][] startsOfPart = new int[parts][];
+        final int[][] endsOfPart = new int[parts][];
+
+        IntStream.range(0, parts).parallel().forEach(part -> {
+            int from = partBoundary(textLen, parts, part);
+            int to = partBoundary(textLen, parts, part + 1);
+            startsOfPart[part] = findAll(text, startTemplate, from, to);
+            endsOfPart[part] = findAll(text, endTemplate, from, to);
+        });
+
+        final int[] starts = concat(startsOfPart);
+        final int[] ends = concat(endsOfPart);
+
+        // Pair the templates in order, in the same way as the sequential scan.
+        final IntList identifierStarts = new IntList();
+        final IntList identifierEnds = new IntList();
+        String syntaxError = null;
+
+        int literalStart = 0;
+        int si = 0;
+        int ei = 0;
+        int checkIndex = 0;
+
+        while (true) {
+
+            while (si < starts.length && starts[si] < literalStart) {
+                si++;
+            }
+            if (si == starts.length) {
+                break;
+            }
+
+            final int i = starts[si];
+            final int contentStart = i + templateStartLen;
+
+            while (ei < ends.length && ends[ei] < contentStart) {
+                ei++;
+            }
+            final int j = ei < ends.length ? ends[ei] : -1;
+
+            // Check for syntax error only when isCheckForBasicSyntax is true.
+            if (isCheckForBasicSyntax) {
+
+                while (checkIndex < starts.length && starts[checkIndex] < contentStart) {
+                    checkIndex++;
+                }
+
+                // If we found another start template before the end template, this is likely a syntax error.
+                if (checkIndex < starts.length && (j < 0 || starts[checkIndex] <= j)) {
+                    syntaxError = "Syntax error. Found another start template, while iterating for end template. There is likely a syntax error in the text. Please fix that first.";
+                    break;
+                }
+            }
+
+            if (j < 0) {
+                syntaxError = "End template not found.";
+                break;
+            }
+
+            identifierStarts.add(i);
+            identifierEnds.add(j);
+            literalStart = j + templateEndLen;
+        }
+
+        // Decode the identifiers in parallel, an identifier before the syntax error is decoded first by the sequential scan, so its error comes first.
+        final int identifierCount = identifierStarts.size;
+        final KeyObjects[] identifiers = new KeyObjects[identifierCount];
+        final TemplateException[] errors = new TemplateException[identifierCount];
+
+        IntStream.range(0, identifierCount).parallel().forEach(k -> {
+            try {
+                identifiers[k] = IdentifierParser.generateKeyObjectFromIdentifier(text.subSequence(identifierStarts.values[k] + templateStartLen, identifierEnds.values[k]).toString(), template);
+            } catch (TemplateException e) {
+                errors[k] = e;
+            }
+        });
+
+        for (TemplateException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        if (syntaxError != null) {
+            throw new TemplateException(syntaxError);
+        }
+
+        final int[] literalStarts = new int[identifierCount + 1];
+        final int[] literalEnds = new int[identifierCount + 1];
+
+        for (int k = 0; k < identifierCount; k++) {
+            literalEnds[k] = identifierStarts.values[k];
+            literalStarts[k + 1] = identifierEnds.values[k] + templateEndLen;
+        }
+        literalEnds[identifierCount] = textLen;
+
+        return new CompiledTemplate.Segments(literalStarts, literalEnds, identifiers);
+    }
+
+    /**
+     * Get the number of parts to split a large text into, a few parts for each thread of the common pool.
+     */
+    static int partCount() {
+        return 4 * Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Get the start index of a part.
+     */
+    static int partBoundary(int textLen, int parts, int part) {
+        return (int) ((long) textLen * part / parts);
+    }
+
+    /**
+     * Method to find every template that begins in the range, a template can continue after the range.
+     */
+    private static int[] findAll(CharSequence text, String tag, int from, int to) {
+
+        final IntList found = new IntList();
+        final char first = tag.charAt(0);
+
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == first && TextSearch.startsWith(text, i, tag)) {
+                found.add(i);
+            }
+        }
+        return Arrays.copyOf(found.values, found.size);
+    }
+
+    private static int[] concat(int[][] arrays) {
+
+        int length = 0;
+        for (int[] array : arrays) {
+            length += array.length;
+        }
+
+        final int[] result = new int[length];
+        int pos = 0;
+        for (int[] array : arrays) {
+            System.arraycopy(array, 0, result, pos, array.length);
+            pos += array.length;
+        }
+        return result;
+    }
+
+    /**
+     * Growable list of int, so the index is not boxed.
+     */
+    private static final class IntList {
+
+        int[] values = new int[16];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
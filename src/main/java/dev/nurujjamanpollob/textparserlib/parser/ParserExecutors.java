@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class holds the executor shared by the asynchronous parsing methods, when there is no executor passed.
+ * <p>
+ * The shared executor is created when it is used for the first time. It has one daemon thread per available processor, so it never stops the JVM from exiting,
+ * and the threads are stopped after a minute without work. The tasks are queued, when all the threads are busy.
+ * @see TextParser#parseAsynchronously(dev.nurujjamanpollob.textparserlib.event.ParseEventListener, java.util.concurrent.Executor)
+ */
+public final class ParserExecutors {
+
+    /**
+     * Suppress default constructor for non-instantiability.
+     */
+    private ParserExecutors() {
+        throw new AssertionError("This class is not intended to be instantiated.");
+    }
+
+    /**
+     * Get the executor shared by the asynchronous parsing methods. The executor is shared, so it is not exposed as an {@link ExecutorService} that can be shutdown.
+     *
+     * @return the shared executor.
+     */
+    public static Executor getDefaultExecutor() {
+        return DefaultExecutorHolder.DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * Get the executor, that runs each task in a virtual thread of its own on Java 21 and later.
+     * This is recommended for the tasks that wait most of the time, for example rendering with values that are looked up from a slow source.
+     * <p>
+     * On Java 11 to 20, there is no virtual thread, so this is the same bounded executor as {@link #getDefaultExecutor()}, and a burst of tasks is queued instead of starting a thread for each task.
+     *
+     * @return the shared thread per task executor.
+     * @see #isVirtualThreadSupported()
+     */
+    public static Executor getVirtualThreadExecutor() {
+        return VirtualThreadExecutorHolder.VIRTUAL_THREAD_EXECUTOR;
+    }
+
+    /**
+     * Check if {@link #getVirtualThreadExecutor()} runs the tasks with virtual threads, this is true on Java 21 and later.
+     *
+     * @return true if virtual threads are used.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return ThreadPerTaskExecutors.isVirtualThreadSupported();
+    }
+
+    /**
+     * Method to run a parsing task with the parse executor, and complete the returned future from the callback executor.
+     * So the dependent stages added without an executor of their own, are run by the callback executor.
+     *
+     * @param task             the parsing task.
+     * @param parseExecutor    the executor to run the parsing task.
+     * @param callbackExecutor the executor to complete the future.
+     * @return the future of the parsing task, it is completed exceptionally with {@link TemplateException} if the task throws, or an executor is null or do not accept the task.
+     */
+    static <T> CompletableFuture<T> supplyAsync(ParseTask<T> task, Executor parseExecutor, Executor callbackExecutor) {
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        if (parseExecutor == null || callbackExecutor == null) {
+            future.completeExceptionally(new TemplateException("The executor cannot be null."));
+            return future;
+        }
+
+        try {
+            parseExecutor.execute(() -> {
+
+                T result = null;
+                Throwable error = null;
+
+                try {
+                    result = task.run();
+                } catch (Throwable e) {
+                    error = e;
+                }
+
+                final T finalResult = result;
+                final Throwable finalError = error;
+
+                try {
+                    callbackExecutor.execute(() -> {
+                        if (finalError == null) {
+                            future.complete(finalResult);
+                        } else {
+                            future.completeExceptionally(finalError);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    future.completeExceptionally(new TemplateException("The callback executor did not accept the task."));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new TemplateException("The executor did not accept the parsing task."));
+        }
+
+        return future;
+    }
+
+    /**
+     * A parsing task, that can throw {@link TemplateException}.
+     */
+    @FunctionalInterface
+    interface ParseTask<T> {
+
+        T run() throws TemplateException;
+    }
+
+    /**
+     * Holder of the shared executor, so it is created on first use.
+     */
+    private static final class DefaultExecutorHolder {
+
+        private static final ExecutorService DEFAULT_EXECUTOR = createDefaultExecutor();
+
+        private static ExecutorService createDefaultExecutor() {
+
+            final int threads = Runtime.getRuntime().availableProcessors();
+            final AtomicInteger threadNumber = new AtomicInteger();
+
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "TextParser-worker-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    /**
+     * Holder of the shared thread per task executor, so it is created on first use.
+     */
+    private static final class VirtualThreadExecutorHolder {
+
+        private static final Executor VIRTUAL_THREAD_EXECUTOR = ThreadPerTaskExecutors.newThreadPerTaskExecutor("TextParser-task-");
+    }
+}
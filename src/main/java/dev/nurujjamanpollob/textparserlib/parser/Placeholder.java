@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.KeyObjects;
+import dev.nurujjamanpollob.textparserlib.Template;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class describes an identifier found in a compiled text, without rendering it. See {@link CompiledTemplate#getPlaceholders()}.
+ * <p>
+ * For example, the text "Hi, I am *(name)*" has one placeholder, with the identifier name "name", that starts at index 9 and ends at index 17 of the text.
+ */
+public final class Placeholder {
+
+    /**
+     * Suppress default constructor for non-instantiability without parameters.
+     */
+    private Placeholder() {
+        throw new AssertionError("This class cannot be instantiated without parameters.");
+    }
+
+    private final int index;
+    private final int slot;
+    private final KeyObjects keyObjects;
+    private final Template template;
+    private final int startIndex;
+    private final int endIndex;
+
+    /**
+     * Create an instance of Placeholder class.
+     */
+    Placeholder(int index, int slot, KeyObjects keyObjects, Template template, int startIndex, int endIndex) {
+        this.index = index;
+        this.slot = slot;
+        this.keyObjects = keyObjects;
+        this.template = template;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+    }
+
+    /**
+     * Get the index of this placeholder, from 0 to {@link CompiledTemplate#getIdentifierCount()} - 1 in the order they are found in the text.
+     *
+     * @return the index.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Get the slot of the identifier name, the placeholders with the same name share one slot. See {@link CompiledTemplate#getSlot(String)}.
+     *
+     * @return the slot.
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Get the identifier name.
+     *
+     * @return the identifier name.
+     */
+    public String getKeyName() {
+        return keyObjects.getKeyName();
+    }
+
+    /**
+     * Get if the identifier is optional, so it can be rendered without a value.
+     *
+     * @return true if the identifier is optional.
+     */
+    public boolean isOptional() {
+        return keyObjects.isOptional();
+    }
+
+    /**
+     * Get the default value of an optional identifier.
+     *
+     * @return the default value, or null if the identifier is not optional.
+     */
+    public String getOptionalValue() {
+        return keyObjects.getOptionalValue();
+    }
+
+    /**
+     * Get the decoded identifier.
+     *
+     * @return the identifier.
+     */
+    public KeyObjects getKeyObjects() {
+        return keyObjects;
+    }
+
+    /**
+     * Get the template the identifier is written with.
+     *
+     * @return the template.
+     */
+    public Template getTemplate() {
+        return template;
+    }
+
+    /**
+     * Get the index in the text, where the start template of this placeholder is found.
+     *
+     * @return the start index, inclusive.
+     */
+    public int getStartIndex() {
+        return startIndex;
+    }
+
+    /**
+     * Get the index in the text, after the end template of this placeholder.
+     *
+     * @return the end index, exclusive.
+     */
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "Placeholder{" +
+                "index=" + index +
+                ", keyName='" + getKeyName() + '\'' +
+                ", isOptional=" + isOptional() +
+                ", optionalValue='" + getOptionalValue() + '\'' +
+                ", startIndex=" + startIndex +
+                ", endIndex=" + endIndex +
+                '}';
+    }
+}
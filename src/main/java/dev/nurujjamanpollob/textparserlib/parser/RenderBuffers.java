@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This interface keeps the buffers, that a text is rendered into before the String of the parsed text is created. A buffer that has grown is reused by the next render,
+ * so a render of a compiled template allocates only the parsed text, once the buffers have grown. See {@link CompiledTemplate#render(java.util.Map, RenderBuffers)}.
+ * <p>
+ * Two kinds of buffers are built in, {@link #threadLocal(int)} keeps one buffer for each thread, and {@link #pooled(int, int)} keeps a fixed number of buffers shared by all threads.
+ * The pooled buffers are better for virtual threads, or a large number of short-lived threads, as a thread local buffer is lost when its thread ends.
+ * <p>
+ * An implementation must be thread safe.
+ */
+public interface RenderBuffers {
+
+    /**
+     * Method to take a buffer, that is empty and has at least the capacity.
+     *
+     * @param capacity the capacity the buffer needs.
+     * @return the buffer. It is used by one render only, until it is given back with {@link #release(StringBuilder)}.
+     */
+    StringBuilder acquire(int capacity);
+
+    /**
+     * Method to give back a buffer taken with {@link #acquire(int)}. The buffer must not be used after this.
+     *
+     * @param buffer the buffer.
+     */
+    void release(StringBuilder buffer);
+
+    /**
+     * Create buffers that keep one buffer for each thread.
+     *
+     * @param maxRetainedCapacity the largest capacity of a buffer that is kept, a larger buffer is left to the garbage collector, so one large text do not keep its memory forever.
+     * @return the buffers.
+     * @throws TemplateException if the capacity is not positive.
+     */
+    static RenderBuffers threadLocal(int maxRetainedCapacity) throws TemplateException {
+
+        if (maxRetainedCapacity <= 0) {
+            throw new TemplateException("The maximum retained capacity must be positive.");
+        }
+
+        return new RenderBuffers() {
+
+            private final ThreadLocal<StringBuilder> buffers = new ThreadLocal<>();
+
+            @Override
+            public StringBuilder acquire(int capacity) {
+
+                StringBuilder buffer = buffers.get();
+                if (buffer == null) {
+                    return new StringBuilder(capacity);
+                }
+
+                // Take the buffer from the thread, so a render inside a render do not use it twice.
+                buffers.set(null);
+                buffer.ensureCapacity(capacity);
+                return buffer;
+            }
+
+            @Override
+            public void release(StringBuilder buffer) {
+
+                if (buffer.capacity() <= maxRetainedCapacity) {
+                    buffer.setLength(0);
+                    buffers.set(buffer);
+                }
+            }
+        };
+    }
+
+    /**
+     * Create buffers that keep a fixed number of buffers, shared by all threads. When all the buffers are in use, a new buffer is created, and it is kept if there is a free place after use.
+     *
+     * @param maxBuffers          the number of buffers kept, for example the number of threads that render at the same time.
+     * @param maxRetainedCapacity the largest capacity of a buffer that is kept, a larger buffer is left to the garbage collector.
+     * @return the buffers.
+     * @throws TemplateException if the number of buffers or the capacity is not positive.
+     */
+    static RenderBuffers pooled(int maxBuffers, int maxRetainedCapacity) throws TemplateException {
+
+        if (maxBuffers <= 0) {
+            throw new TemplateException("The maximum number of buffers must be positive.");
+        }
+
+        if (maxRetainedCapacity <= 0) {
+            throw new TemplateException("The maximum retained capacity must be positive.");
+        }
+
+        return new RenderBuffers() {
+
+            // A place is null when its buffer is in use, or there is no buffer yet. Taking and giving back do not lock, and do not allocate.
+            private final AtomicReferenceArray<StringBuilder> buffers = new AtomicReferenceArray<>(maxBuffers);
+
+            @Override
+            public StringBuilder acquire(int capacity) {
+
+                final int first = firstPlace();
+                for (int k = 0; k < maxBuffers; k++) {
+                    int place = (first + k) % maxBuffers;
+                    StringBuilder buffer = buffers.get(place);
+                    if (buffer != null && buffers.compareAndSet(place, buffer, null)) {
+                        buffer.ensureCapacity(capacity);
+                        return buffer;
+                    }
+                }
+                return new StringBuilder(capacity);
+            }
+
+            @Override
+            public void release(StringBuilder buffer) {
+
+                if (buffer.capacity() > maxRetainedCapacity) {
+                    return;
+                }
+
+                buffer.setLength(0);
+
+                final int first = firstPlace();
+                for (int k = 0; k < maxBuffers; k++) {
+                    if (buffers.compareAndSet((first + k) % maxBuffers, null, buffer)) {
+                        return;
+                    }
+                }
+            }
+
+            /**
+             * Each look up starts at a random place, so threads do not race for the same buffer. A random place spreads virtual threads as well as platform threads.
+             */
+            private int firstPlace() {
+                return ThreadLocalRandom.current().nextInt(maxBuffers);
+            }
+        };
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class renders a compiled text with each key-value pairs it receives from a {@link Flow.Publisher}, and publishes the results to one {@link Flow.Subscriber}, with backpressure.
+ * <p>
+ * At most maxConcurrency key-value pairs are requested from the publisher, that are not yet given to the subscriber. They are rendered at the same time on the executor,
+ * and the results are given to the subscriber in the order the key-value pairs are received, only as many as the subscriber requested. So a slow subscriber slows down the publisher,
+ * instead of the results being queued in memory.
+ * <pre>
+ *     <code>
+ *         RenderProcessor processor = new RenderProcessor(compiledTemplate, executor, 8);
+ *
+ *         recordPublisher.subscribe(processor);
+ *         processor.subscribe(sink);
+ *     </code>
+ * </pre>
+ * A render that failed is given to the subscriber as a result that holds its exception, see {@link RenderResult#getException()}, so one bad record do not stop the stream.
+ * The results have no index, as the position in a stream is not known, they are in the order of the key-value pairs instead.
+ * An error of the publisher is given to the subscriber at once, and the results not given yet are dropped.
+ * <p>
+ * This class follows the rules of the Reactive Streams specification, that {@link Flow} is built on. It needs nothing but the JDK.
+ */
+public final class RenderProcessor implements Flow.Processor<Map<String, String>, RenderResult> {
+
+    /**
+     * Suppress default constructor for non-instantiability without parameters.
+     */
+    private RenderProcessor() {
+        throw new AssertionError("This class cannot be instantiated without parameters.");
+    }
+
+    private final CompiledTemplate compiledTemplate;
+    private final Executor executor;
+    private final int maxConcurrency;
+
+    /**
+     * The results that are not given to the subscriber yet, the result of the n-th key-value pairs is placed at n % maxConcurrency.
+     */
+    private final AtomicReferenceArray<RenderResult> results;
+
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicBoolean hasSubscriber = new AtomicBoolean();
+    private volatile Flow.Subscriber<? super RenderResult> downstream;
+
+    /**
+     * The number of results the subscriber requested, and not given yet.
+     */
+    private final AtomicLong demand = new AtomicLong();
+
+    /**
+     * The number of times {@link #drain()} is asked to run, only one thread runs it at a time, so the subscriber is signaled by one thread at a time.
+     */
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    /**
+     * The number of key-value pairs received, only changed by the publisher.
+     */
+    private volatile long received;
+
+    /**
+     * The number of key-value pairs requested from the publisher, only changed by {@link #drain()}.
+     */
+    private volatile long requested;
+
+    /**
+     * The number of results given to the subscriber, only used by {@link #drain()}.
+     */
+    private long emitted;
+
+    private volatile boolean isUpstreamDone;
+    private volatile Throwable error;
+    private volatile boolean isTerminated;
+
+    /**
+     * Create an instance of RenderProcessor class, that renders on the shared executor, see {@link ParserExecutors#getDefaultExecutor()}.
+     *
+     * @param compiledTemplate the compiled text to render.
+     * @param maxConcurrency   the number of key-value pairs rendered at the same time, and not given to the subscriber yet.
+     * @throws TemplateException if the compiled text is null, or maxConcurrency is not positive.
+     */
+    public RenderProcessor(CompiledTemplate compiledTemplate, int maxConcurrency) throws TemplateException {
+        this(compiledTemplate, ParserExecutors.getDefaultExecutor(), maxConcurrency);
+    }
+
+    /**
+     * Create an instance of RenderProcessor class.
+     *
+     * @param compiledTemplate the compiled text to render.
+     * @param executor         the executor to render on.
+     * @param maxConcurrency   the number of key-value pairs rendered at the same time, and not given to the subscriber yet.
+     * @throws TemplateException if the compiled text or executor is null, or maxConcurrency is not positive.
+     */
+    public RenderProcessor(CompiledTemplate compiledTemplate, Executor executor, int maxConcurrency) throws TemplateException {
+
+        if (compiledTemplate == null || executor == null) {
+            throw new TemplateException("Compiled template or executor is null.");
+        }
+
+        if (maxConcurrency <= 0) {
+            throw new TemplateException("The maximum concurrency must be positive.");
+        }
+
+        this.compiledTemplate = compiledTemplate;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.results = new AtomicReferenceArray<>(maxConcurrency);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super RenderResult> subscriber) {
+
+        Objects.requireNonNull(subscriber, "The subscriber cannot be null.");
+
+        if (!hasSubscriber.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new TemplateException("The render processor accepts only one subscriber."));
+            return;
+        }
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+
+            @Override
+            public void request(long n) {
+
+                if (n <= 0) {
+                    fail(new IllegalArgumentException("The number of requested results must be positive, but was " + n + "."));
+                    return;
+                }
+
+                long current;
+                long next;
+                do {
+                    current = demand.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (current != Long.MAX_VALUE && !demand.compareAndSet(current, next));
+
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                isTerminated = true;
+                cancelUpstream();
+            }
+        });
+
+        // Set after onSubscribe returns, so no result is given before it.
+        downstream = subscriber;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+
+        Objects.requireNonNull(subscription, "The subscription cannot be null.");
+
+        if (isTerminated || !upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+
+        drain();
+    }
+
+    @Override
+    public void onNext(Map<String, String> keyValuePairs) {
+
+        Objects.requireNonNull(keyValuePairs, "The key-value pairs cannot be null.");
+
+        if (isTerminated) {
+            return;
+        }
+
+        final long index = received;
+        if (index >= requested) {
+            fail(new IllegalStateException("The publisher sent more key-value pairs than requested."));
+            return;
+        }
+        received = index + 1;
+
+        final int place = (int) (index % maxConcurrency);
+
+        try {
+            executor.execute(() -> {
+                results.set(place, compiledTemplate.renderResult(-1, keyValuePairs));
+                drain();
+            });
+        } catch (RejectedExecutionException e) {
+            results.set(place, new RenderResult(-1, null, new TemplateException("The executor did not accept the rendering task.")));
+            drain();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+
+        Objects.requireNonNull(throwable, "The error cannot be null.");
+        error = throwable;
+        isUpstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        isUpstreamDone = true;
+        drain();
+    }
+
+    /**
+     * Method to stop the stream with an error, that is given to the subscriber.
+     */
+    private void fail(Throwable throwable) {
+        cancelUpstream();
+        error = throwable;
+        isUpstreamDone = true;
+        drain();
+    }
+
+    private void cancelUpstream() {
+
+        Flow.Subscription subscription = upstream.get();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Method to give the results in order to the subscriber, as many as it requested, then end the stream or request more key-value pairs from the publisher.
+     * Only one thread runs this at a time, a thread that asks while another one runs makes the running thread loop once more.
+     */
+    private void drain() {
+
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+
+        while (true) {
+
+            final Flow.Subscriber<? super RenderResult> subscriber = downstream;
+
+            if (subscriber != null && !isTerminated) {
+
+                // An error is given at once, the results not given yet are dropped.
+                final Throwable failure = error;
+                if (failure != null) {
+                    isTerminated = true;
+                    cancelUpstream();
+                    subscriber.onError(failure);
+                } else {
+                    emit(subscriber);
+
+                    // Read done before received, so received is final when the publisher is done.
+                    if (!isTerminated && isUpstreamDone && emitted == received) {
+                        isTerminated = true;
+                        subscriber.onComplete();
+                    }
+
+                    requestUpstream();
+                }
+            }
+
+            missed = drainRequests.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Method to give the rendered results in order, as many as the subscriber requested.
+     */
+    private void emit(Flow.Subscriber<? super RenderResult> subscriber) {
+
+        final long requestedResults = demand.get();
+        long count = 0;
+
+        while (count != requestedResults && !isTerminated) {
+
+            final int place = (int) (emitted % maxConcurrency);
+            final RenderResult result = results.get(place);
+            if (result == null) {
+                // The next result in order is not rendered yet.
+                break;
+            }
+
+            results.set(place, null);
+            emitted++;
+            count++;
+            subscriber.onNext(result);
+        }
+
+        if (count != 0 && requestedResults != Long.MAX_VALUE) {
+            demand.addAndGet(-count);
+        }
+    }
+
+    /**
+     * Method to request key-value pairs from the publisher, so there are at most maxConcurrency of them that are not given to the subscriber yet.
+     */
+    private void requestUpstream() {
+
+        final Flow.Subscription subscription = upstream.get();
+        if (subscription == null || isTerminated || isUpstreamDone) {
+            return;
+        }
+
+        final long allowed = emitted + maxConcurrency;
+        final long current = requested;
+        if (current < allowed) {
+            requested = allowed;
+            subscription.request(allowed - current);
+        }
+    }
+}
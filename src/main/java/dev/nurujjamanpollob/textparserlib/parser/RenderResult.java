@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class holds the result of one render of a batch, see {@link CompiledTemplate#renderAll(java.util.List)}.
+ * A render that failed holds its exception instead of the parsed text, so one failure do not stop the other renders of the batch.
+ */
+public final class RenderResult {
+
+    private final int index;
+    private final String result;
+    private final TemplateException exception;
+
+    RenderResult(int index, String result, TemplateException exception) {
+        this.index = index;
+        this.result = result;
+        this.exception = exception;
+    }
+
+    /**
+     * Get the index of the identifier values in the batch, this result is rendered from.
+     *
+     * @return the index in the batch, or -1 if the batch is a stream.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Check if the render is successful.
+     *
+     * @return true if there is a parsed text, false if there is an exception.
+     */
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+
+    /**
+     * Get the parsed text.
+     *
+     * @return the parsed text, or null if the render failed.
+     */
+    public String getResult() {
+        return result;
+    }
+
+    /**
+     * Get the exception of a failed render.
+     *
+     * @return the exception, or null if the render is successful.
+     */
+    public TemplateException getException() {
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return "RenderResult{" +
+                "index=" + index +
+                (exception == null ? ", result='" + result + '\'' : ", exception=" + exception.getMessage()) +
+                '}';
+    }
+}
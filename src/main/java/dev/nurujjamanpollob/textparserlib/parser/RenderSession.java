@@ -0,0 +1,475 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.KeyObjects;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class keeps the parsed text of a {@link CompiledTemplate}, and updates it when the value of an identifier is changed, for example in a live dashboard.
+ * <p>
+ * The parsed text is held as segments, the literal text between the identifiers and the value of each identifier. Each identifier name knows the segments it is placed in,
+ * so changing a value updates only those segments, and the length of the parsed text before each segment is kept in a Fenwick tree.
+ * An update costs O(k log n), where k is the number of times the identifier is used and n is the number of identifiers, instead of rendering the whole text again.
+ * <pre>
+ *     <code>
+ *         RenderSession session = compiledTemplate.newSession(keyValuePairs);
+ *
+ *         // Only the segments of "price" are updated
+ *         session.putVariableNameAndValue("price", "42");
+ *
+ *         session.writeTo(out);
+ *     </code>
+ * </pre>
+ * The parsed text can be read without creating a String of it, with {@link #writeTo(Appendable)} or the live view {@link #asCharSequence()}. {@link #getOutput()} creates the String
+ * only once after each change.
+ * <p>
+ * This class is not thread safe, a session must be used by one thread at a time.
+ */
+public final class RenderSession {
+
+    /**
+     * Suppress default constructor for non-instantiability without parameters.
+     */
+    private RenderSession() {
+        throw new AssertionError("This class cannot be instantiated without parameters.");
+    }
+
+    private final CompiledTemplate compiledTemplate;
+    private final String[] values;
+
+    /**
+     * The identifiers placed by each slot.
+     */
+    private final int[][] identifiersOfSlot;
+
+    /**
+     * The escaped value placed by each identifier, it is updated when the value of its slot is changed.
+     */
+    private final String[] identifierTexts;
+
+    /**
+     * Fenwick tree over the length of the segments. Segment 2i is the literal text i, and segment 2i + 1 is the value of identifier i.
+     */
+    private final long[] segmentLengthTree;
+
+    /**
+     * The length of each segment, so the change of a segment is known without reading the tree.
+     */
+    private final int[] segmentLengths;
+
+    private long outputLength;
+    private String output;
+
+    /**
+     * Create an instance of RenderSession class, the values must be already checked.
+     */
+    RenderSession(CompiledTemplate compiledTemplate, String[] values) {
+
+        this.compiledTemplate = compiledTemplate;
+        this.values = values;
+
+        final KeyObjects[] identifiers = compiledTemplate.identifiers;
+        final int[] identifierSlots = compiledTemplate.identifierSlots;
+
+        // Group the identifiers by slot.
+        final int[] counts = new int[values.length];
+        for (int slot : identifierSlots) {
+            counts[slot]++;
+        }
+
+        this.identifiersOfSlot = new int[values.length][];
+        for (int slot = 0; slot < values.length; slot++) {
+            identifiersOfSlot[slot] = new int[counts[slot]];
+            counts[slot] = 0;
+        }
+        for (int i = 0; i < identifiers.length; i++) {
+            int slot = identifierSlots[i];
+            identifiersOfSlot[slot][counts[slot]++] = i;
+        }
+
+        this.identifierTexts = new String[identifiers.length];
+        for (int i = 0; i < identifiers.length; i++) {
+            identifierTexts[i] = identifierText(i);
+        }
+
+        // Build the tree in linear time, each node adds its sum to its parent.
+        final int segmentCount = 2 * identifiers.length + 1;
+        this.segmentLengths = new int[segmentCount];
+        this.segmentLengthTree = new long[segmentCount + 1];
+
+        for (int segment = 0; segment < segmentCount; segment++) {
+            segmentLengths[segment] = segmentLength(segment);
+            outputLength += segmentLengths[segment];
+
+            int node = segment + 1;
+            segmentLengthTree[node] += segmentLengths[segment];
+            int parent = node + (node & -node);
+            if (parent <= segmentCount) {
+                segmentLengthTree[parent] += segmentLengthTree[node];
+            }
+        }
+    }
+
+    /**
+     * Method to change the value of an identifier, only the segments of this identifier are updated.
+     *
+     * @param variableName  the identifier name. An identifier that is not used by the text is ignored.
+     * @param variableValue the new value, or null to use the default value of an optional identifier.
+     * @throws TemplateException if the value is null, and the identifier is mandatory where it is used. The value is not changed in this case.
+     */
+    public void putVariableNameAndValue(String variableName, String variableValue) throws TemplateException {
+
+        final int slot = compiledTemplate.getSlot(variableName);
+        if (slot < 0) {
+            return;
+        }
+
+        if (variableValue == null) {
+            for (int i : identifiersOfSlot[slot]) {
+                if (!compiledTemplate.identifiers[i].isOptional()) {
+                    throw IdentifierParser.noValuePassed(compiledTemplate.identifiers[i]);
+                }
+            }
+        }
+
+        if (variableValue != null && variableValue.equals(values[slot])) {
+            return;
+        }
+
+        values[slot] = variableValue;
+        output = null;
+
+        for (int i : identifiersOfSlot[slot]) {
+            identifierTexts[i] = identifierText(i);
+
+            int segment = 2 * i + 1;
+            int length = identifierTexts[i].length();
+            int delta = length - segmentLengths[segment];
+
+            if (delta != 0) {
+                segmentLengths[segment] = length;
+                outputLength += delta;
+                for (int node = segment + 1; node < segmentLengthTree.length; node += node & -node) {
+                    segmentLengthTree[node] += delta;
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to change the value of many identifiers, see {@link #putVariableNameAndValue(String, String)}.
+     *
+     * @param keyValuePairs the new values.
+     * @throws TemplateException if the key-value pairs is null, or a mandatory identifier is given null. The values before it are already changed in this case.
+     */
+    public void putAll(Map<String, String> keyValuePairs) throws TemplateException {
+
+        if (keyValuePairs == null) {
+            throw new TemplateException("Identifier with values is null.");
+        }
+
+        for (Map.Entry<String, String> entry : keyValuePairs.entrySet()) {
+            putVariableNameAndValue(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Get the current value of an identifier.
+     *
+     * @param variableName the identifier name.
+     * @return the value, or null if there is no value or the text do not use this identifier.
+     */
+    public String getValue(String variableName) {
+
+        final int slot = compiledTemplate.getSlot(variableName);
+        return slot < 0 ? null : values[slot];
+    }
+
+    /**
+     * Get the length of the parsed text.
+     *
+     * @return the length, in characters.
+     */
+    public long getOutputLength() {
+        return outputLength;
+    }
+
+    /**
+     * Get the index in the parsed text, where an identifier is placed. For example, to send only the changed part of the parsed text to a client.
+     *
+     * @param identifierIndex the index of the identifier in the text, from 0 to {@link CompiledTemplate#getIdentifierCount()} - 1.
+     * @return the index in the parsed text.
+     */
+    public long getIdentifierOffset(int identifierIndex) {
+
+        if (identifierIndex < 0 || identifierIndex >= compiledTemplate.identifiers.length) {
+            throw new IndexOutOfBoundsException("Identifier index " + identifierIndex + " is out of bounds.");
+        }
+        return lengthBefore(2 * identifierIndex + 1);
+    }
+
+    /**
+     * Get the parsed text. The String is created once after each change, and reused until the next change.
+     *
+     * @return the parsed text.
+     */
+    public String getOutput() {
+
+        if (output == null) {
+            if (outputLength > Integer.MAX_VALUE) {
+                throw new OutOfMemoryError("The parsed text is too large for a String.");
+            }
+
+            StringBuilder parsedText = new StringBuilder((int) outputLength);
+            for (int segment = 0; segment < segmentLengths.length; segment++) {
+                appendSegment(parsedText, segment);
+            }
+            output = parsedText.toString();
+        }
+        return output;
+    }
+
+    /**
+     * Write the parsed text into the output, without creating a String of it.
+     *
+     * @param out the output to write the parsed text into.
+     * @throws TemplateException if the output is null.
+     * @throws IOException       if the output throws an error while writing.
+     */
+    public void writeTo(Appendable out) throws TemplateException, IOException {
+
+        if (out == null) {
+            throw new TemplateException("The output cannot be null.");
+        }
+
+        if (output != null) {
+            out.append(output);
+            return;
+        }
+
+        for (int segment = 0; segment < segmentLengths.length; segment++) {
+            appendSegment(out, segment);
+        }
+    }
+
+    /**
+     * Get a live view of the parsed text. A character is found in O(log n) without creating a String, and the view shows the changes made after it is created.
+     *
+     * @return the view of the parsed text.
+     */
+    public CharSequence asCharSequence() {
+        return new OutputView();
+    }
+
+    /**
+     * Get the compiled template of this session.
+     *
+     * @return the compiled template.
+     */
+    public CompiledTemplate getCompiledTemplate() {
+        return compiledTemplate;
+    }
+
+    @Override
+    public String toString() {
+        return "RenderSession{" +
+                "outputLength=" + outputLength +
+                ", compiledTemplate=" + compiledTemplate +
+                '}';
+    }
+
+    /**
+     * Method to compute the escaped value of an identifier from the value of its slot.
+     */
+    private String identifierText(int identifierIndex) {
+
+        final KeyObjects identifier = compiledTemplate.identifiers[identifierIndex];
+        final String value = values[compiledTemplate.identifierSlots[identifierIndex]];
+        return IdentifierParser.escapedValue(identifier, value != null ? value : IdentifierParser.defaultValue(identifier));
+    }
+
+    /**
+     * Method to get the length of a segment, without copying the literal text or escaping the value again.
+     */
+    private int segmentLength(int segment) {
+
+        final int k = segment / 2;
+
+        if (segment % 2 == 0) {
+            return compiledTemplate.literalEnds[k] - compiledTemplate.literalStarts[k];
+        }
+        return identifierTexts[k].length();
+    }
+
+    /**
+     * Method to get a character of a segment, a literal character is read from the source text and a value character from the escaped value.
+     */
+    private char segmentCharAt(int segment, int offset) {
+
+        final int k = segment / 2;
+
+        if (segment % 2 == 0) {
+            return compiledTemplate.text.charAt(compiledTemplate.literalStarts[k] + offset);
+        }
+        return identifierTexts[k].charAt(offset);
+    }
+
+    /**
+     * Method to append a segment, a literal text is appended from the source text without copying it.
+     */
+    private void appendSegment(Appendable out, int segment) throws IOException {
+
+        final int k = segment / 2;
+
+        if (segment % 2 == 0) {
+            out.append(compiledTemplate.text, compiledTemplate.literalStarts[k], compiledTemplate.literalEnds[k]);
+        } else {
+            out.append(identifierTexts[k]);
+        }
+    }
+
+    /**
+     * Method to append a segment into a StringBuilder, that never throws IOException.
+     */
+    private void appendSegment(StringBuilder out, int segment) {
+
+        try {
+            appendSegment((Appendable) out, segment);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Method to get the total length of the segments before a segment.
+     */
+    private long lengthBefore(int segment) {
+
+        long length = 0;
+        for (int node = segment; node > 0; node -= node & -node) {
+            length += segmentLengthTree[node];
+        }
+        return length;
+    }
+
+    /**
+     * Method to find the segment, that holds the character at the index of the parsed text. The length before the segment is placed into the first element of the array.
+     */
+    private int segmentAt(long index, long[] lengthBefore) {
+
+        int node = 0;
+        long remaining = index;
+
+        for (int step = Integer.highestOneBit(segmentLengthTree.length - 1); step > 0; step >>= 1) {
+            int next = node + step;
+            if (next < segmentLengthTree.length && segmentLengthTree[next] <= remaining) {
+                node = next;
+                remaining -= segmentLengthTree[node];
+            }
+        }
+
+        lengthBefore[0] = index - remaining;
+        return node;
+    }
+
+    /**
+     * Live view of the parsed text.
+     */
+    private final class OutputView implements CharSequence {
+
+        @Override
+        public int length() {
+            return (int) Math.min(outputLength, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public char charAt(int index) {
+
+            if (index < 0 || index >= outputLength) {
+                throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+            }
+
+            if (output != null) {
+                return output.charAt(index);
+            }
+
+            long[] lengthBefore = new long[1];
+            int segment = segmentAt(index, lengthBefore);
+            return segmentCharAt(segment, (int) (index - lengthBefore[0]));
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return getOutput();
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class is an Aho-Corasick automaton, that finds any of the start templates in one pass through the text.
+ * It is used when a text is compiled with more than one template, so the text is not scanned once for each template.
+ * <p>
+ * When more than one start template can be found, the one that starts first is used, and the longest one if they start at the same index.
+ * For example, with the start templates "{" and "{{", the text "{{name}}" is matched by "{{".
+ * <p>
+ * This class is immutable, and can be used from multiple threads at the same time.
+ */
+final class StartTagAutomaton {
+
+    /**
+     * The state of the automaton, that is the start of every search.
+     */
+    private static final int ROOT = 0;
+
+    private final int[] patternLengths;
+    private final int maxPatternLength;
+
+    /**
+     * The characters of the transitions of each state, sorted so they can be binary searched.
+     */
+    private final char[][] transitionChars;
+
+    /**
+     * The target state of each transition.
+     */
+    private final int[][] transitionTargets;
+
+    /**
+     * The state of the longest proper suffix of each state, that is followed when there is no transition.
+     */
+    private final int[] failure;
+
+    /**
+     * The pattern that ends at each state, or -1 if there is none.
+     */
+    private final int[] output;
+
+    /**
+     * The nearest state on the failure path of each state, that has a pattern ending at it, or the root if there is none.
+     */
+    private final int[] outputLink;
+
+    /**
+     * Create the automaton for the patterns.
+     *
+     * @param patterns the patterns to find, must not be empty and must be distinct.
+     */
+    StartTagAutomaton(String[] patterns) {
+
+        // Build the trie of the patterns.
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<Integer> outputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        outputs.add(-1);
+
+        this.patternLengths = new int[patterns.length];
+        int maxLength = 0;
+
+        for (int p = 0; p < patterns.length; p++) {
+
+            int state = ROOT;
+            for (int k = 0; k < patterns[p].length(); k++) {
+                Integer next = trie.get(state).get(patterns[p].charAt(k));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(patterns[p].charAt(k), next);
+                    trie.add(new TreeMap<>());
+                    outputs.add(-1);
+                }
+                state = next;
+            }
+
+            outputs.set(state, p);
+            patternLengths[p] = patterns[p].length();
+            maxLength = Math.max(maxLength, patterns[p].length());
+        }
+        this.maxPatternLength = maxLength;
+
+        final int stateCount = trie.size();
+        this.transitionChars = new char[stateCount][];
+        this.transitionTargets = new int[stateCount][];
+        this.failure = new int[stateCount];
+        this.output = new int[stateCount];
+        this.outputLink = new int[stateCount];
+
+        for (int state = 0; state < stateCount; state++) {
+
+            TreeMap<Character, Integer> transitions = trie.get(state);
+            transitionChars[state] = new char[transitions.size()];
+            transitionTargets[state] = new int[transitions.size()];
+
+            int t = 0;
+            for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                transitionChars[state][t] = transition.getKey();
+                transitionTargets[state][t] = transition.getValue();
+                t++;
+            }
+            output[state] = outputs.get(state);
+        }
+
+        // Set the failure and output links in breadth first order, so the links of a shorter state are ready before they are used.
+        final ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int target : transitionTargets[ROOT]) {
+            queue.add(target);
+        }
+
+        while (!queue.isEmpty()) {
+
+            final int state = queue.poll();
+
+            for (int t = 0; t < transitionChars[state].length; t++) {
+
+                final char c = transitionChars[state][t];
+                final int target = transitionTargets[state][t];
+
+                failure[target] = next(failure[state], c);
+                outputLink[target] = output[failure[target]] >= 0 ? failure[target] : outputLink[failure[target]];
+                queue.add(target);
+            }
+        }
+    }
+
+    /**
+     * Method to find the first pattern at or after the index, the longest one if more than one starts at the same index.
+     *
+     * @param text      the text to search in.
+     * @param fromIndex the index to start searching from.
+     * @return the match, see {@link #matchStart(long)} and {@link #matchPattern(long)}, or -1 if no pattern is found.
+     */
+    long find(CharSequence text, int fromIndex) {
+
+        final int textLen = text.length();
+
+        int state = ROOT;
+        int bestStart = Integer.MAX_VALUE;
+        int bestPattern = -1;
+
+        // A pattern that starts before the best match found so far, ends before this index.
+        int searchEnd = textLen;
+
+        for (int i = fromIndex; i < searchEnd; i++) {
+
+            state = next(state, text.charAt(i));
+
+            for (int matched = output[state] >= 0 ? state : outputLink[state]; matched != ROOT; matched = outputLink[matched]) {
+
+                final int pattern = output[matched];
+                final int start = i - patternLengths[pattern] + 1;
+
+                if (start < bestStart || (start == bestStart && patternLengths[pattern] > patternLengths[bestPattern])) {
+                    bestStart = start;
+                    bestPattern = pattern;
+                    searchEnd = (int) Math.min(textLen, (long) bestStart + maxPatternLength);
+                }
+            }
+        }
+
+        return bestPattern < 0 ? -1 : ((long) bestStart << 32) | bestPattern;
+    }
+
+    /**
+     * @return the index of the text, where the matched pattern starts.
+     */
+    static int matchStart(long match) {
+        return (int) (match >>> 32);
+    }
+
+    /**
+     * @return the index of the matched pattern.
+     */
+    static int matchPattern(long match) {
+        return (int) match;
+    }
+
+    /**
+     * Method to get the next state for the character, following the failure links until a transition is found.
+     */
+    private int next(int state, char c) {
+
+        while (true) {
+            int t = Arrays.binarySearch(transitionChars[state], c);
+            if (t >= 0) {
+                return transitionTargets[state][t];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.KeyObjects;
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Map;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class is used to parse text, that is too large to be held in memory. The text is read from a {@link Reader} or {@link ReadableByteChannel} through a fixed size buffer,
+ * and the parsed text is written into the output as soon as it is ready, so the memory usage do not depend on the size of the text.
+ * <p>
+ * The start and end template, and the identifiers with their defVal parameter can be split between two reads, this class reads them in the same way as {@link TextParser}.
+ * <pre>
+ *     <code>
+ *         StreamingTextParser parser = new StreamingTextParser(new Template("*(", ")*"), keyValuePairs);
+ *
+ *         try (Reader in = Files.newBufferedReader(input); Writer out = Files.newBufferedWriter(output)) {
+ *             parser.parse(in, out);
+ *         }
+ *     </code>
+ * </pre>
+ * As the parsed text is written while reading, an error such as a mandatory identifier without value can be found after some parsed text is already written.
+ * <p>
+ * This class do not hold any state between parse, so the same instance can be used from multiple threads at the same time, as long as the key-value pairs are not changed.
+ */
+public final class StreamingTextParser {
+
+    /**
+     * Default size of the read buffer, in characters.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Maximum length of an identifier, in characters. An identifier can not be held longer than this, so an unclosed start template do not read the rest of the text into memory.
+     */
+    public static final int MAX_IDENTIFIER_LENGTH = 1 << 20;
+
+    /**
+     * Suppress default constructor for non-instantiability without parameters.
+     */
+    private StreamingTextParser() {
+        throw new AssertionError("This class cannot be instantiated without parameters.");
+    }
+
+    private final Template template;
+    private final Map<String, String> keyValuePairs;
+    private final boolean isCheckForBasicSyntax;
+    private final int bufferSize;
+
+    /**
+     * Create an instance of StreamingTextParser class.
+     *
+     * @param template      the template that will be used to determine the variables in the text.
+     * @param keyValuePairs the key-value pairs that will be used to replace the variables in the text.
+     * @throws TemplateException if the template or key-value pairs is null.
+     */
+    public StreamingTextParser(Template template, Map<String, String> keyValuePairs) throws TemplateException {
+        this(template, keyValuePairs, false, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create an instance of StreamingTextParser class.
+     *
+     * @param template                 the template that will be used to determine the variables in the text.
+     * @param keyValuePairs            the key-value pairs that will be used to replace the variables in the text.
+     * @param isUseBasicSyntaxChecking if true, the parser will check for basic syntax errors.
+     * @throws TemplateException if the template or key-value pairs is null.
+     */
+    public StreamingTextParser(Template template, Map<String, String> keyValuePairs, Boolean isUseBasicSyntaxChecking) throws TemplateException {
+        this(template, keyValuePairs, isUseBasicSyntaxChecking, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create an instance of StreamingTextParser class.
+     *
+     * @param template                 the template that will be used to determine the variables in the text.
+     * @param keyValuePairs            the key-value pairs that will be used to replace the variables in the text.
+     * @param isUseBasicSyntaxChecking if true, the parser will check for basic syntax errors.
+     * @param bufferSize               the size of the read buffer, in characters. It is raised to twice of the longest template, if it is smaller than that.
+     * @throws TemplateException if the template or key-value pairs is null.
+     */
+    public StreamingTextParser(Template template, Map<String, String> keyValuePairs, Boolean isUseBasicSyntaxChecking, int bufferSize) throws TemplateException {
+
+        if (template == null || keyValuePairs == null) {
+            throw new TemplateException("Identifier with values or template instance is null.");
+        }
+
+        this.template = template;
+        this.keyValuePairs = keyValuePairs;
+        this.isCheckForBasicSyntax = isUseBasicSyntaxChecking;
+        this.bufferSize = Math.max(bufferSize, 2 * Math.max(template.getStartTemplate().length(), template.getEndTemplate().length()));
+    }
+
+    /**
+     * @param in  the text to parse, it is not closed by this method.
+     * @param out the output to write the parsed text into, it is not closed by this method.
+     * @throws TemplateException if any error occurs during parsing.
+     * @throws IOException       if the input or output throws an error.
+     * @apiNote Parse the text read from the reader, and write the parsed text into the output.
+     */
+    public void parse(Reader in, Appendable out) throws TemplateException, IOException {
+
+        if (in == null || out == null) {
+            throw new TemplateException("The input or output cannot be null.");
+        }
+
+        final String startTemplate = template.getStartTemplate();
+        final String endTemplate = template.getEndTemplate();
+        final int templateStartLen = startTemplate.length();
+        final int templateEndLen = endTemplate.length();
+
+        // Characters kept at the end of the buffer, as they can be the first part of a template split between two reads.
+        final int literalKeep = templateStartLen - 1;
+        final int identifierKeep = Math.max(templateEndLen, isCheckForBasicSyntax ? templateStartLen : 0) - 1;
+
+        final char[] buffer = new char[bufferSize];
+        final CharBuffer charBuffer = CharBuffer.wrap(buffer);
+        final StringBuilder identifier = new StringBuilder();
+
+        int pos = 0;
+        int limit = 0;
+        boolean isEndOfInput = false;
+        boolean isInIdentifier = false;
+
+        while (true) {
+
+            // Read as much as possible into the buffer.
+            if (!isEndOfInput) {
+
+                if (pos > 0) {
+                    System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+                    limit -= pos;
+                    pos = 0;
+                }
+
+                while (limit < buffer.length) {
+                    int read = in.read(buffer, limit, buffer.length - limit);
+                    if (read < 0) {
+                        isEndOfInput = true;
+                        break;
+                    }
+                    limit += read;
+                }
+            }
+
+            // Parse everything that can be parsed from the buffer.
+            while (true) {
+
+                if (!isInIdentifier) {
+
+                    int start = indexOf(buffer, pos, limit, startTemplate);
+
+                    if (start >= 0) {
+
+                        // Start template found.
+                        write(out, buffer, charBuffer, pos, start);
+                        pos = start + templateStartLen;
+                        isInIdentifier = true;
+                        identifier.setLength(0);
+                        continue;
+                    }
+
+                    int safe = isEndOfInput ? limit : Math.max(pos, limit - literalKeep);
+                    write(out, buffer, charBuffer, pos, safe);
+                    pos = safe;
+                } else {
+
+                    int end = indexOf(buffer, pos, limit, endTemplate);
+
+                    // Check for syntax error only when isCheckForBasicSyntax is true.
+                    if (isCheckForBasicSyntax) {
+
+                        int start = indexOf(buffer, pos, limit, startTemplate);
+
+                        // If we found another start template before the end template, this is likely a syntax error.
+                        if (start >= 0 && (end < 0 || start <= end)) {
+                            throw new TemplateException("Syntax error. Found another start template, while iterating for end template. There is likely a syntax error in the text. Please fix that first.");
+                        }
+                    }
+
+                    if (end >= 0) {
+
+                        // End template found.
+                        identifier.append(buffer, pos, end - pos);
+                        KeyObjects keyObjects = IdentifierParser.generateKeyObjectFromIdentifier(identifier.toString(), template);
+                        IdentifierParser.appendValue(keyObjects, IdentifierParser.valueOrDefault(keyObjects, keyValuePairs.get(keyObjects.getKeyName())), out);
+                        pos = end + templateEndLen;
+                        isInIdentifier = false;
+                        continue;
+                    }
+
+                    int safe = isEndOfInput ? limit : Math.max(pos, limit - identifierKeep);
+                    identifier.append(buffer, pos, safe - pos);
+                    pos = safe;
+
+                    if (identifier.length() > MAX_IDENTIFIER_LENGTH) {
+                        throw new TemplateException("End template not found within " + MAX_IDENTIFIER_LENGTH + " characters.");
+                    }
+                }
+
+                break;
+            }
+
+            if (isEndOfInput) {
+
+                if (isInIdentifier) {
+                    // ?? Why not closing text with ending identifier?
+                    throw new TemplateException("End template not found.");
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param in      the text to parse, it is not closed by this method.
+     * @param out     the output to write the parsed text into, it is not closed by this method.
+     * @param charset the charset of both input and output.
+     * @throws TemplateException if any error occurs during parsing.
+     * @throws IOException       if the input or output throws an error.
+     * @apiNote Parse the text read from the channel, and write the parsed text into the output channel.
+     */
+    public void parse(ReadableByteChannel in, WritableByteChannel out, Charset charset) throws TemplateException, IOException {
+
+        if (in == null || out == null || charset == null) {
+            throw new TemplateException("The input, output or charset cannot be null.");
+        }
+
+        // Channels#newReader and Channels#newWriter use their own fixed size buffer.
+        Writer writer = Channels.newWriter(out, charset.newEncoder(), bufferSize);
+        parse(Channels.newReader(in, charset.newDecoder(), bufferSize), writer);
+        writer.flush();
+    }
+
+    /**
+     * @param in      the text to parse, it is not closed by this method.
+     * @param out     the output to write the parsed text into, it is not closed by this method.
+     * @param charset the charset of both input and output.
+     * @throws TemplateException if any error occurs during parsing.
+     * @throws IOException       if the input or output throws an error.
+     * @apiNote Parse the text read from the input stream, and write the parsed text into the output stream.
+     */
+    public void parse(InputStream in, OutputStream out, Charset charset) throws TemplateException, IOException {
+
+        if (in == null || out == null || charset == null) {
+            throw new TemplateException("The input, output or charset cannot be null.");
+        }
+
+        Writer writer = new OutputStreamWriter(out, charset);
+        parse(new InputStreamReader(in, charset), writer);
+        writer.flush();
+    }
+
+    /**
+     * Method to find a template in a range of the buffer.
+     *
+     * @return the index of the template, or -1 if the template is not found in full.
+     */
+    private static int indexOf(char[] buffer, int from, int to, String tag) {
+
+        final char first = tag.charAt(0);
+        final int tagLen = tag.length();
+        final int max = to - tagLen;
+
+        for (int i = from; i <= max; i++) {
+
+            // Skip until the first character matches.
+            if (buffer[i] != first) {
+                continue;
+            }
+
+            int k = 1;
+            while (k < tagLen && buffer[i + k] == tag.charAt(k)) {
+                k++;
+            }
+            if (k == tagLen) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method to write a range of the buffer into the output.
+     */
+    private static void write(Appendable out, char[] buffer, CharBuffer charBuffer, int start, int end) throws IOException {
+
+        if (start == end) {
+            return;
+        }
+
+        if (out instanceof Writer) {
+            ((Writer) out).write(buffer, start, end - start);
+        } else {
+            out.append(charBuffer, start, end);
+        }
+    }
+}
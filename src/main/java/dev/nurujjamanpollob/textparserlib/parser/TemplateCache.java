@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.escape.Escaper;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class is a bounded cache of compiled texts, so a text that is parsed over and over is scanned only once.
+ * <p>
+ * A compiled text is looked up by the text, the start and end template, the escaper of the template and the basic syntax checking flag. The cache is bounded by the number of entries and by the weight,
+ * that is the total length of the cached texts in characters. When any bound is exceeded, the least recently used entries are evicted. A text heavier than the max weight is compiled, but never cached.
+ * <p>
+ * This class is thread safe. A text that is missed by two threads at the same time is compiled by both, and only one of them is kept, this way no thread waits for another to compile.
+ * <p>
+ * There is no process-wide cache by default, so the texts passed to {@link Template#parseSynchronously(CharSequence, java.util.HashMap)} are not kept in memory.
+ * It is turned on with {@link #setDefault(TemplateCache)}, or a cache is set to a parser with {@link TextParser#setTemplateCache(TemplateCache)}.
+ */
+public final class TemplateCache {
+
+    /**
+     * The suggested max number of entries, for example of the process-wide cache.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    /**
+     * The suggested max weight, for example of the process-wide cache, in characters.
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 16L * 1024 * 1024;
+
+    private static volatile TemplateCache defaultCache;
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final LinkedHashMap<Key, CompiledTemplate> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Suppress default constructor for non-instantiability without args.
+     */
+    private TemplateCache() {
+        throw new AssertionError("This class is not intended to be instantiated without args");
+    }
+
+    /**
+     * Create a cache with the bounds.
+     *
+     * @param maxEntries the max number of cached texts, must be greater than zero.
+     * @param maxWeight  the max total length of the cached texts in characters, must be greater than zero.
+     * @throws TemplateException if any bound is not greater than zero.
+     */
+    public TemplateCache(int maxEntries, long maxWeight) throws TemplateException {
+
+        if (maxEntries <= 0 || maxWeight <= 0) {
+            throw new TemplateException("The max entries and max weight must be greater than zero.");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Get the process-wide cache, that the text parsed by {@link Template#parseSynchronously(CharSequence, java.util.HashMap)} and {@link Template#getPlaceholders(CharSequence)} is compiled through.
+     *
+     * @return the default cache, or null if it is not set by {@link #setDefault(TemplateCache)}, that is the default.
+     */
+    public static TemplateCache getDefault() {
+        return defaultCache;
+    }
+
+    /**
+     * Set the process-wide cache, for example <code>TemplateCache.setDefault(new TemplateCache(TemplateCache.DEFAULT_MAX_ENTRIES, TemplateCache.DEFAULT_MAX_WEIGHT))</code>.
+     * The entries of the old cache are not moved.
+     *
+     * @param templateCache the new default cache, or null to compile the text every time again.
+     */
+    public static void setDefault(TemplateCache templateCache) {
+        defaultCache = templateCache;
+    }
+
+    /**
+     * Get the compiled text from the cache, or compile and cache it if it is not found.
+     *
+     * @param text                  the text to compile. The text is looked up by its content without copying it. A text that is not a {@link String} is copied into a String only when it is cached,
+     *                              so the cached entry never changes. A text longer than the max weight is compiled as it is, and never copied.
+     * @param template              the template that will be used to determine the variables in the text.
+     * @param isCheckForBasicSyntax if true, the parser will check for basic syntax errors.
+     * @return the compiled text.
+     * @throws TemplateException if the text or template is null, or the text has any syntax error. A text that can not be compiled is not cached.
+     */
+    public CompiledTemplate get(CharSequence text, Template template, Boolean isCheckForBasicSyntax) throws TemplateException {
+
+        if (text == null || template == null || isCheckForBasicSyntax == null) {
+            throw new TemplateException("Text or template is null.");
+        }
+
+        // A text heavier than the max weight is never cached, so it is compiled as it is, without hashing or copying it.
+        if (text.length() > maxWeight) {
+            synchronized (this) {
+                missCount++;
+            }
+            return new CompiledTemplate(text, template, isCheckForBasicSyntax);
+        }
+
+        final int textHash = hashOf(text);
+        final Key lookupKey = new Key(text, template, isCheckForBasicSyntax, textHash);
+
+        synchronized (this) {
+            CompiledTemplate compiledTemplate = entries.get(lookupKey);
+            if (compiledTemplate != null) {
+                hitCount++;
+                return compiledTemplate;
+            }
+            missCount++;
+        }
+
+        // Copy the text only now, as it is not found and will be cached.
+        final String textToCompile = text.toString();
+        final Key key = new Key(textToCompile, template, isCheckForBasicSyntax, textHash);
+
+        // Compile without the lock, so other texts can be looked up meanwhile.
+        final CompiledTemplate compiledTemplate = new CompiledTemplate(textToCompile, template, isCheckForBasicSyntax);
+
+        synchronized (this) {
+            CompiledTemplate cached = entries.putIfAbsent(key, compiledTemplate);
+            if (cached != null) {
+                return cached;
+            }
+
+            weight += textToCompile.length();
+            evict();
+        }
+        return compiledTemplate;
+    }
+
+    /**
+     * Remove all the entries, the counters are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * @return the number of cached texts.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the total length of the cached texts in characters.
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return the max number of cached texts.
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return the max total length of the cached texts in characters.
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * @return the number of lookups, that found the compiled text in the cache.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of lookups, that compiled the text.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of entries, that are evicted to keep the cache in the bounds.
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TemplateCache{" +
+                "size=" + entries.size() +
+                ", weight=" + weight +
+                ", maxEntries=" + maxEntries +
+                ", maxWeight=" + maxWeight +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                '}';
+    }
+
+    /**
+     * Method to evict the least recently used entries, until the cache is in the bounds. Must be called with the lock held.
+     */
+    private void evict() {
+
+        final Iterator<Map.Entry<Key, CompiledTemplate>> iterator = entries.entrySet().iterator();
+
+        while ((entries.size() > maxEntries || weight > maxWeight) && iterator.hasNext()) {
+            weight -= iterator.next().getKey().text.length();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Method to compute the hash of a text by its content, the same as {@link String#hashCode()}, so a String and a StringBuilder with the same content have the same hash.
+     */
+    private static int hashOf(CharSequence text) {
+
+        if (text instanceof String) {
+            return text.hashCode();
+        }
+
+        int h = 0;
+        final int textLen = text.length();
+        for (int i = 0; i < textLen; i++) {
+            h = 31 * h + text.charAt(i);
+        }
+        return h;
+    }
+
+    /**
+     * Method to compare two texts by their content.
+     */
+    private static boolean contentEquals(CharSequence first, CharSequence second) {
+
+        if (first instanceof String && second instanceof String) {
+            return first.equals(second);
+        }
+
+        final int textLen = first.length();
+        if (textLen != second.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < textLen; i++) {
+            if (first.charAt(i) != second.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The key of a compiled text. A key used only to look up holds the text as it is given, a cached key holds a String copy of it.
+     */
+    private static final class Key {
+
+        final CharSequence text;
+        final String startTemplate;
+        final String endTemplate;
+        final Escaper escaper;
+        final boolean isEscaperSuffixEnabled;
+        final boolean isCheckForBasicSyntax;
+        final int hash;
+
+        Key(CharSequence text, Template template, boolean isCheckForBasicSyntax, int textHash) {
+            this.text = text;
+            this.startTemplate = template.getStartTemplate();
+            this.endTemplate = template.getEndTemplate();
+            this.escaper = template.getEscaper();
+            this.isEscaperSuffixEnabled = template.isEscaperSuffixEnabled();
+            this.isCheckForBasicSyntax = isCheckForBasicSyntax;
+
+            int h = textHash;
+            h = 31 * h + startTemplate.hashCode();
+            h = 31 * h + endTemplate.hashCode();
+            h = 31 * h + Objects.hashCode(escaper);
+            h = 31 * h + Boolean.hashCode(isEscaperSuffixEnabled);
+            this.hash = 31 * h + Boolean.hashCode(isCheckForBasicSyntax);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hash == key.hash
+                    && isCheckForBasicSyntax == key.isCheckForBasicSyntax
+                    && isEscaperSuffixEnabled == key.isEscaperSuffixEnabled
+                    && startTemplate.equals(key.startTemplate)
+                    && endTemplate.equals(key.endTemplate)
+                    && Objects.equals(escaper, key.escaper)
+                    && contentEquals(text, key.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
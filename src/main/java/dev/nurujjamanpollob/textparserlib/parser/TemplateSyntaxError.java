@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class describes a syntax error found by {@link TemplateValidator}, with the index, line and column of the text where it is found.
+ */
+public final class TemplateSyntaxError {
+
+    /**
+     * The kind of syntax error.
+     */
+    public enum Type {
+
+        /**
+         * A start template that has no end template after it.
+         */
+        UNCLOSED_IDENTIFIER,
+
+        /**
+         * A start template found inside an identifier of the same template, before its end template.
+         */
+        NESTED_START_TEMPLATE,
+
+        /**
+         * An identifier that can not be decoded, for example an optional identifier with a missing defVal.
+         */
+        MALFORMED_IDENTIFIER,
+
+        /**
+         * An optional identifier with a defVal that has no closing double quote, for example *(?name defVal="John)*. The parser reads it as an identifier without default value,
+         * and writes null in place of it.
+         */
+        UNCLOSED_DEF_VALUE
+    }
+
+    /**
+     * Suppress default constructor for non-instantiability without parameters.
+     */
+    private TemplateSyntaxError() {
+        throw new AssertionError("This class cannot be instantiated without parameters.");
+    }
+
+    private final Type type;
+    private final String message;
+    private final Template template;
+    private final int index;
+    private final int lineNumber;
+    private final int columnNumber;
+
+    /**
+     * Create an instance of TemplateSyntaxError class.
+     */
+    TemplateSyntaxError(Type type, String message, Template template, int index, int lineNumber, int columnNumber) {
+        this.type = type;
+        this.message = message;
+        this.template = template;
+        this.index = index;
+        this.lineNumber = lineNumber;
+        this.columnNumber = columnNumber;
+    }
+
+    /**
+     * Get the kind of this syntax error.
+     *
+     * @return the type.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Get the error message, the same message the parser throws for this error. The parser do not throw for {@link Type#UNCLOSED_DEF_VALUE}.
+     *
+     * @return the message.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Get the template of the identifier that has this error.
+     *
+     * @return the template.
+     */
+    public Template getTemplate() {
+        return template;
+    }
+
+    /**
+     * Get the index in the text, where this error is found. For {@link Type#NESTED_START_TEMPLATE} this is the nested start template, for {@link Type#UNCLOSED_DEF_VALUE} the defVal parameter,
+     * otherwise the start template of the identifier.
+     *
+     * @return the index.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Get the line number of the index, starting at 1. A line ends with "\n", "\r\n" or "\r".
+     *
+     * @return the line number.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Get the column number of the index in its line, starting at 1.
+     *
+     * @return the column number.
+     */
+    public int getColumnNumber() {
+        return columnNumber;
+    }
+
+    @Override
+    public String toString() {
+        return "TemplateSyntaxError{" +
+                "type=" + type +
+                ", line=" + lineNumber +
+                ", column=" + columnNumber +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
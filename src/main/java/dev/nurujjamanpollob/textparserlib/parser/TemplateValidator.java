@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.KeyObjects;
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class checks a text for syntax errors, and reports every error with its line and column, instead of stopping at the first one like the parser.
+ * <p>
+ * The text is read once from the start to the end. Each start and end template is found with a Knuth-Morris-Pratt matcher that never goes back, so the time is linear in the length of the text
+ * for any text, even one that is made to be slow, like a long run of the first character of a template.
+ * <p>
+ * A text that has no error here is parsed without error with basic syntax checking, and the first error here is the error the parser throws. So a text that is validated once,
+ * can be compiled without basic syntax checking, see {@link #compile(CharSequence)}. A defVal that is not closed is reported as well, though the parser writes null in place of it as the version 2.0 did.
+ * <pre>
+ *     <code>
+ *         TemplateValidator validator = new TemplateValidator(new Template("*(", ")*"));
+ *
+ *         for (TemplateSyntaxError error : validator.validate(uploadedText)) {
+ *             System.out.println(error.getLineNumber() + ":" + error.getColumnNumber() + " " + error.getMessage());
+ *         }
+ *     </code>
+ * </pre>
+ * This class is thread safe.
+ */
+public final class TemplateValidator {
+
+    /**
+     * Suppress default constructor for non-instantiability without parameters.
+     */
+    private TemplateValidator() {
+        throw new AssertionError("This class cannot be instantiated without parameters.");
+    }
+
+    private static final String NESTED_START_TEMPLATE_MESSAGE = "Syntax error. Found another start template, while iterating for end template. There is likely a syntax error in the text. Please fix that first.";
+    private static final String UNCLOSED_IDENTIFIER_MESSAGE = "End template not found.";
+    private static final String UNCLOSED_DEF_VALUE_MESSAGE = "Def value is not closed, close it with a double quote like defVal=\"defValue\"";
+
+    private final Template[] templates;
+
+    /**
+     * Failure table of each start and end template, they are computed once for this instance.
+     */
+    private final int[][] startTemplateFailures;
+    private final int[][] endTemplateFailures;
+
+    /**
+     * Create an instance of TemplateValidator class.
+     *
+     * @param template the template that will be used to determine the variables in the text.
+     * @throws TemplateException if the template is null.
+     */
+    public TemplateValidator(Template template) throws TemplateException {
+        this(Collections.singletonList(template));
+    }
+
+    /**
+     * Create an instance of TemplateValidator class, with more than one template. The text is checked the same way as {@link CompiledTemplate#CompiledTemplate(CharSequence, List, Boolean)}.
+     *
+     * @param templates the templates that will be used to determine the variables in the text. Each template must have a distinct start template.
+     * @throws TemplateException if the templates is null or empty, or two templates have the same start template.
+     */
+    public TemplateValidator(List<Template> templates) throws TemplateException {
+
+        this.templates = CompiledTemplate.toTemplateArray(templates);
+        this.startTemplateFailures = new int[this.templates.length][];
+        this.endTemplateFailures = new int[this.templates.length][];
+
+        for (int t = 0; t < this.templates.length; t++) {
+            startTemplateFailures[t] = TagMatcher.failureTable(this.templates[t].getStartTemplate());
+            endTemplateFailures[t] = TagMatcher.failureTable(this.templates[t].getEndTemplate());
+        }
+    }
+
+    /**
+     * Method to find every syntax error of the text.
+     * <p>
+     * After an error, the check goes on from the nearest place the text can be read again. After a nested start template, it goes on from the nested start template,
+     * and after a start template that is never closed, it goes on from the content of the identifier.
+     *
+     * @param text the text to check.
+     * @return the syntax errors in the order they are found in the text, or an empty list if there is no error.
+     * @throws TemplateException if the text is null.
+     */
+    public List<TemplateSyntaxError> validate(CharSequence text) throws TemplateException {
+
+        if (text == null) {
+            throw new TemplateException("Input string or template instance is null.");
+        }
+
+        final int count = templates.length;
+        final TagMatcher[] startMatchers = new TagMatcher[count];
+        final TagMatcher[] endMatchers = new TagMatcher[count];
+        for (int t = 0; t < count; t++) {
+            startMatchers[t] = new TagMatcher(text, templates[t].getStartTemplate(), startTemplateFailures[t]);
+            endMatchers[t] = new TagMatcher(text, templates[t].getEndTemplate(), endTemplateFailures[t]);
+        }
+
+        final List<TemplateSyntaxError> errors = new ArrayList<>();
+        final LineCounter lineCounter = new LineCounter(text);
+
+        // Start index of the current literal text.
+        int literalStart = 0;
+
+        while (true) {
+
+            // The leftmost start template, the longest one when more than one is found at the same index. This is the same as the parser.
+            int i = -1;
+            int t = -1;
+            for (int candidate = 0; candidate < count; candidate++) {
+                int index = startMatchers[candidate].nextIndex(literalStart);
+                if (index >= 0 && (i < 0 || index < i || (index == i && templates[candidate].getStartTemplate().length() > templates[t].getStartTemplate().length()))) {
+                    i = index;
+                    t = candidate;
+                }
+            }
+
+            if (i < 0) {
+                break;
+            }
+
+            final Template template = templates[t];
+            final int contentStart = i + template.getStartTemplate().length();
+            final int j = endMatchers[t].nextIndex(contentStart);
+            final int k = startMatchers[t].nextIndex(contentStart);
+
+            if (k >= 0 && (j < 0 || k <= j)) {
+                errors.add(lineCounter.newError(TemplateSyntaxError.Type.NESTED_START_TEMPLATE, NESTED_START_TEMPLATE_MESSAGE, template, k));
+                literalStart = k;
+                continue;
+            }
+
+            if (j < 0) {
+                errors.add(lineCounter.newError(TemplateSyntaxError.Type.UNCLOSED_IDENTIFIER, UNCLOSED_IDENTIFIER_MESSAGE, template, i));
+                literalStart = contentStart;
+                continue;
+            }
+
+            final String keyData = text.subSequence(contentStart, j).toString();
+            try {
+                // A def value is read up to its closing double quote, so an optional identifier without default value has a def value that is not closed.
+                KeyObjects keyObjects = IdentifierParser.generateKeyObjectFromIdentifier(keyData, template);
+                if (keyObjects.isOptional() && keyObjects.getOptionalValue() == null) {
+                    errors.add(lineCounter.newError(TemplateSyntaxError.Type.UNCLOSED_DEF_VALUE, UNCLOSED_DEF_VALUE_MESSAGE, template, contentStart + IdentifierParser.indexOfDefValue(keyData)));
+                }
+            } catch (TemplateException e) {
+                errors.add(lineCounter.newError(TemplateSyntaxError.Type.MALFORMED_IDENTIFIER, e.getMessage(), template, i));
+            }
+
+            // Move the pointer to the end of end template.
+            literalStart = j + template.getEndTemplate().length();
+        }
+
+        return errors;
+    }
+
+    /**
+     * Method to check if the text has no syntax error.
+     *
+     * @param text the text to check.
+     * @return true if the text has no syntax error.
+     * @throws TemplateException if the text is null.
+     */
+    public boolean isValid(CharSequence text) throws TemplateException {
+        return validate(text).isEmpty();
+    }
+
+    /**
+     * Method to check the text, and compile it without basic syntax checking when there is no error.
+     *
+     * @param text the text to compile. The text is not copied, so it must not be changed while the compiled template is used.
+     * @return the compiled text.
+     * @throws TemplateException if the text is null, or has any syntax error. The message has the line and column of the first error, and the number of errors.
+     */
+    public CompiledTemplate compile(CharSequence text) throws TemplateException {
+
+        final List<TemplateSyntaxError> errors = validate(text);
+
+        if (!errors.isEmpty()) {
+            TemplateSyntaxError first = errors.get(0);
+            throw new TemplateException(first.getMessage() + " At line " + first.getLineNumber() + ", column " + first.getColumnNumber() + ". The text has " + errors.size() + " syntax error(s).");
+        }
+
+        return new CompiledTemplate(text, templates, false);
+    }
+
+    /**
+     * Knuth-Morris-Pratt matcher of a template, that finds the first index of the template at or after an index.
+     * The index asked must never go back, so the text is read only once.
+     */
+    private static final class TagMatcher {
+
+        private final CharSequence text;
+        private final String tag;
+        private final int[] failures;
+
+        /**
+         * Index of the next character to read, and the number of characters of the tag matched before it.
+         */
+        private int position;
+        private int matched;
+
+        /**
+         * Last index found, or -1 if there is no more index to find.
+         */
+        private int found = Integer.MIN_VALUE;
+
+        TagMatcher(CharSequence text, String tag, int[] failures) {
+            this.text = text;
+            this.tag = tag;
+            this.failures = failures;
+        }
+
+        /**
+         * Method to compute the length of the longest proper prefix, that is also a suffix, of each prefix of the tag.
+         */
+        static int[] failureTable(String tag) {
+
+            final int[] failures = new int[tag.length()];
+            int matched = 0;
+
+            for (int i = 1; i < tag.length(); i++) {
+                while (matched > 0 && tag.charAt(i) != tag.charAt(matched)) {
+                    matched = failures[matched - 1];
+                }
+                if (tag.charAt(i) == tag.charAt(matched)) {
+                    matched++;
+                }
+                failures[i] = matched;
+            }
+            return failures;
+        }
+
+        /**
+         * Method to find the first index of the tag at or after the index.
+         */
+        int nextIndex(int fromIndex) {
+
+            if (found == -1 || found >= fromIndex) {
+                return found;
+            }
+
+            final int textLen = text.length();
+            final int tagLen = tag.length();
+
+            while (position < textLen) {
+
+                char c = text.charAt(position++);
+                while (matched > 0 && c != tag.charAt(matched)) {
+                    matched = failures[matched - 1];
+                }
+                if (c == tag.charAt(matched)) {
+                    matched++;
+                }
+
+                if (matched == tagLen) {
+                    int index = position - tagLen;
+                    matched = failures[matched - 1];
+
+                    if (index >= fromIndex) {
+                        found = index;
+                        return found;
+                    }
+                }
+            }
+
+            found = -1;
+            return found;
+        }
+    }
+
+    /**
+     * Line and column counter, that reads the text once as the errors are found from the start to the end.
+     */
+    private static final class LineCounter {
+
+        private final CharSequence text;
+        private int position;
+        private int lineNumber = 1;
+        private int lineStart;
+
+        LineCounter(CharSequence text) {
+            this.text = text;
+        }
+
+        TemplateSyntaxError newError(TemplateSyntaxError.Type type, String message, Template template, int index) {
+
+            while (position < index) {
+                char c = text.charAt(position++);
+                if (c == '\n' || (c == '\r' && (position >= text.length() || text.charAt(position) != '\n'))) {
+                    lineNumber++;
+                    lineStart = position;
+                }
+            }
+            return new TemplateSyntaxError(type, message, template, index, lineNumber, index - lineStart + 1);
+        }
+    }
+}
@@ -59,23 +59,28 @@
 
 package dev.nurujjamanpollob.textparserlib.parser;
 
-import dev.nurujjamanpollob.textparserlib.KeyObjects;
 import dev.nurujjamanpollob.textparserlib.Template;
 import dev.nurujjamanpollob.textparserlib.Variable;
 import dev.nurujjamanpollob.textparserlib.event.ParseEventListener;
+import dev.nurujjamanpollob.textparserlib.event.ParseMetrics;
+import dev.nurujjamanpollob.textparserlib.event.ParseStatistics;
 import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
  /**
  * @author Nurujjaman Pollob
  * @version {@value Variable#VERSION}
  * @apiNote This class is used to parse text. It works in both asynchronous and synchronous mode.
  * You can register listener in order to receive callback for registration event.
- * This method usages a short-lived background thread to parse text. If you want to scale your hardware and divide workload with non-blocking approach, the asynchronous mode is recommended.
+ * This method usages a shared background thread pool to parse text, or an {@link Executor} of your own. If you want to scale your hardware and divide workload with non-blocking approach, the asynchronous mode is recommended.
  * You can also use this class to parse text in synchronous mode. synchronous mode is recommended for short text parsing, with no scaling with separate thread.
  *
  * To create a new instance of this class, you must pass a {@link Template} object. The {@link Template} object is used to determine identifiers, later on they will be replaced by their values.
@@ -100,7 +105,7 @@ import java.util.concurrent.Executors;
  * </pre>
  *
  * Identifier that define by their name and no question mark (?) are mandatory, and their value should be passed as a key-value pair to the {@link #putVariableNameAndValue(String, String)} method or using the constructor
- * {@link #TextParser(String, Template, Map)} method. You can also define optional identifiers, which are defined by their name and question mark (?) ath the front of identifier name. Optional identifiers must have a parameter named "defVal="Value". Else, the library throw error.
+ * {@link #TextParser(CharSequence, Template, Map)} method. You can also define optional identifiers, which are defined by their name and question mark (?) ath the front of identifier name. Optional identifiers must have a parameter named "defVal="Value". Else, the library throw error.
  *
  * Look at this little example: <b>*(?name defVal="John Doe")*</b>, here we define an optional parameter with name "name" and default value "John Doe". The default value only be used when there is no value is passed for this identifier.
   * As this library is used a double quote to indicate an end point of a text, so the problem is that the default value is enclosed by double quote. So, If you need to add a double quote in the default value, you need to escape it using * character.
@@ -118,75 +123,151 @@ public class TextParser {
         throw new AssertionError("This class cannot be instantiated without parameters.");
     }
 
-    private final String textToParse;
+    private final CharSequence textToParse;
     private final Template template;
     private final Map<String, String> keyValuePairs;
     private final Boolean isCheckForBasicSyntax;
 
+    /**
+     * All the templates, when the text is parsed with more than one template, else null.
+     */
+    private final List<Template> templates;
+    private TemplateCache templateCache;
+
+    /**
+     * The buffers, that the parsed text is written into, or null to allocate a new buffer for each parse.
+     */
+    private RenderBuffers renderBuffers;
+
+    /**
+     * The submitted time of a parsing task, that is not queued to an executor.
+     */
+    private static final long NOT_QUEUED = Long.MIN_VALUE;
+
+    private static volatile ParseMetrics parseMetrics;
+
     /**
      * Create an instance of TextParser class.
      *
      * @param textToParse   the text to parse.
-     *                      This text will be parsed according to definition of {@link Template} class.
+     *                      This text will be parsed according to definition of {@link Template} class. The text is not copied, so it must not be changed while parsing.
      * @param template      the template that will be used to determine the variables and comments in the text.
      * @param keyValuePairs the key-value pairs that will be used to replace the variables in the text.
      */
-    public TextParser(String textToParse, Template template, Map<String, String> keyValuePairs) {
-        // Split the text into lines.
-        this.textToParse = textToParse + "\n";
+    public TextParser(CharSequence textToParse, Template template, Map<String, String> keyValuePairs) {
+        this.textToParse = textToParse;
         this.template = template;
         this.keyValuePairs = keyValuePairs;
         this.isCheckForBasicSyntax = false;
+        this.templates = null;
     }
 
     /**
      * Create an instance of TextParser class.
      *
      * @param textToParse              the text to parse.
-     *                                 This text will be parsed according to definition of {@link Template} class.
+     *                                 This text will be parsed according to definition of {@link Template} class. The text is not copied, so it must not be changed while parsing.
      * @param template                 the template that will be used to determine the variables and comments in the text.
      * @param keyValuePairs            the key-value pairs that will be used to replace the variables in the text.
      * @param isUseBasicSyntaxChecking if true, the parser will check for basic syntax errors.
      */
-    public TextParser(String textToParse, Template template, Map<String, String> keyValuePairs, Boolean isUseBasicSyntaxChecking) {
-        // Split the text into lines.
-        this.textToParse = textToParse + "\n";
+    public TextParser(CharSequence textToParse, Template template, Map<String, String> keyValuePairs, Boolean isUseBasicSyntaxChecking) {
+        this.textToParse = textToParse;
         this.template = template;
         this.keyValuePairs = keyValuePairs;
         this.isCheckForBasicSyntax = isUseBasicSyntaxChecking;
+        this.templates = null;
     }
 
     /**
      * Create an instance of TextParser class.
      *
      * @param textToParse              the text to parse.
-     *                                 This text will be parsed according to definition of {@link Template} class.
+     *                                 This text will be parsed according to definition of {@link Template} class. The text is not copied, so it must not be changed while parsing.
      * @param template                 the template that will be used to determine the variables and comments in the text.
      * @param isUseBasicSyntaxChecking if true, the parser will check for basic syntax errors.
      */
-    public TextParser(String textToParse, Template template, Boolean isUseBasicSyntaxChecking) {
-        // Split the text into lines.
-        this.textToParse = textToParse + "\n";
+    public TextParser(CharSequence textToParse, Template template, Boolean isUseBasicSyntaxChecking) {
+        this.textToParse = textToParse;
         this.template = template;
         this.keyValuePairs = new HashMap<>();
         this.isCheckForBasicSyntax = isUseBasicSyntaxChecking;
+        this.templates = null;
     }
 
     /**
      * Create an instance of TextParser class.
      *
      * @param textToParse the text to parse.
-     *                    This text will be parsed according to definition of {@link Template} class.
+     *                    This text will be parsed according to definition of {@link Template} class. The text is not copied, so it must not be changed while parsing.
      * @param template    the template that will be used to determine the variables and comments in the text.
      */
-    public TextParser(String textToParse, Template template) {
-        // Split the text into lines.
-        this.textToParse = textToParse + "\n";
+    public TextParser(CharSequence textToParse, Template template) {
+        this.textToParse = textToParse;
         this.template = template;
         this.keyValuePairs = new HashMap<>();
         this.isCheckForBasicSyntax = false;
+        this.templates = null;
+    }
+
+    /**
+     * Create an instance of TextParser class, see {@link #TextParser(CharSequence, Template, Map)}. This constructor is kept, so the code compiled with the version 2.0 still runs.
+     */
+    public TextParser(String textToParse, Template template, Map<String, String> keyValuePairs) {
+        this((CharSequence) textToParse, template, keyValuePairs);
+    }
+
+    /**
+     * Create an instance of TextParser class, see {@link #TextParser(CharSequence, Template, Map, Boolean)}. This constructor is kept, so the code compiled with the version 2.0 still runs.
+     */
+    public TextParser(String textToParse, Template template, Map<String, String> keyValuePairs, Boolean isUseBasicSyntaxChecking) {
+        this((CharSequence) textToParse, template, keyValuePairs, isUseBasicSyntaxChecking);
+    }
+
+    /**
+     * Create an instance of TextParser class, see {@link #TextParser(CharSequence, Template, Boolean)}. This constructor is kept, so the code compiled with the version 2.0 still runs.
+     */
+    public TextParser(String textToParse, Template template, Boolean isUseBasicSyntaxChecking) {
+        this((CharSequence) textToParse, template, isUseBasicSyntaxChecking);
     }
 
+    /**
+     * Create an instance of TextParser class, see {@link #TextParser(CharSequence, Template)}. This constructor is kept, so the code compiled with the version 2.0 still runs.
+     */
+    public TextParser(String textToParse, Template template) {
+        this((CharSequence) textToParse, template);
+    }
+
+    /**
+     * Create an instance of TextParser class, that parses the text with more than one template in one pass.
+     *
+     * @param textToParse   the text to parse.
+     *                      This text will be parsed according to definition of each {@link Template}. The text is not copied, so it must not be changed while parsing.
+     * @param templates     the templates that will be used to determine the variables in the text, for example ("*(", ")*") and ("${", "}"). Each template must have a distinct start template.
+     * @param keyValuePairs the key-value pairs that will be used to replace the variables in the text.
+     * @see CompiledTemplate#CompiledTemplate(CharSequence, List, Boolean)
+     */
+    public TextParser(CharSequence textToParse, List<Template> templates, Map<String, String> keyValuePairs) {
+        this(textToParse, templates, keyValuePairs, false);
+    }
+
+    /**
+     * Create an instance of TextParser class, that parses the text with more than one template in one pass.
+     *
+     * @param textToParse              the text to parse.
+     *                                 This text will be parsed according to definition of each {@link Template}. The text is not copied, so it must not be changed while parsing.
+     * @param templates                the templates that will be used to determine the variables in the text, for example ("*(", ")*") and ("${", "}"). Each template must have a distinct start template.
+     * @param keyValuePairs            the key-value pairs that will be used to replace the variables in the text.
+     * @param isUseBasicSyntaxChecking if true, the parser will check for basic syntax errors.
+     * @see CompiledTemplate#CompiledTemplate(CharSequence, List, Boolean)
+     */
+    public TextParser(CharSequence textToParse, List<Template> templates, Map<String, String> keyValuePairs, Boolean isUseBasicSyntaxChecking) {
+        this.textToParse = textToParse;
+        this.template = templates == null || templates.isEmpty() ? null : templates.get(0);
+        this.templates = templates;
+        this.keyValuePairs = keyValuePairs;
+        this.isCheckForBasicSyntax = isUseBasicSyntaxChecking;
+    }
 
     /**
      * @return the parsed text.
@@ -195,167 +276,290 @@ public class TextParser {
      */
     public String parseSynchronously() throws TemplateException {
 
-        return parseWithoutComment();
+        return parseWithoutComment(false, NOT_QUEUED);
     }
 
     /**
-     * @param listener the listener that will be used to receive callback for registration event.
-     * @throws TemplateException if any error occurs during parsing or the listener is null.
-     * @apiNote Parse the text asynchronously.
-     * This method usages a short-lived background thread to parse text. If you want to scale your CPU threads and divide workload, the asynchronous mode is recommended.
-     * <p>
-     * This method usages {@link ExecutorService} to run the parsing task, and shutdown immediately when the task is finished or received error.
+     * @param variableResolver the resolver that will be used to look up the values of the identifiers, instead of the key-value pairs of this instance.
+     * @return the parsed text.
+     * @throws TemplateException if any error occurs during parsing, or the resolver is null or throws.
+     * @apiNote Parse the text synchronously, and look up the values only for the identifiers that are found in the text. Each identifier name is resolved once, even if it is used many times.
+     * This is recommended, when a value is costly to compute, see {@link VariableResolver#fromSuppliers(Map)}.
      */
-    public void parseAsynchronously(ParseEventListener listener) throws TemplateException {
+    public String parseSynchronously(VariableResolver variableResolver) throws TemplateException {
 
-        if (listener == null) {
-            throw new TemplateException("The listener cannot be null.");
-        }
+        return compile(variableResolver).render(variableResolver, renderBuffers);
+    }
 
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(() -> {
-            try {
+    /**
+     * @return the parsed text.
+     * @throws TemplateException if any error occurs during parsing.
+     * @apiNote Parse a large text synchronously, with all the available processors. The text is split into parts, that are scanned and rendered in parallel and joined in order.
+     * The result and error are the same as {@link #parseSynchronously()}, a small text is parsed in the calling thread.
+     * @see CompiledTemplate#compileInParallel(CharSequence, Template, Boolean)
+     */
+    public String parseInParallel() throws TemplateException {
 
-                String parsedText = parseWithoutComment();
-                listener.onParseFinished(parsedText);
+        return parseWithoutComment(true, NOT_QUEUED);
+    }
 
-                executor.shutdown();
-            } catch (TemplateException e) {
-                listener.onException(e);
-                executor.shutdown();
-            }
-        });
+    /**
+     * @param out the output to write the parsed text into, for example a {@link java.io.Writer}.
+     * @throws TemplateException if any error occurs during parsing, nothing is written in this case.
+     * @throws IOException       if the output throws an error while writing.
+     * @apiNote Parse the text synchronously, and write the parsed text straight into the output, instead of creating a String of the whole parsed text.
+     */
+    public void parseSynchronously(Appendable out) throws TemplateException, IOException {
 
+        compile().render(keyValuePairs, out);
+    }
 
+    /**
+     * @param listener the listener that will be used to receive callback for registration event.
+     * @throws TemplateException if any error occurs during parsing or the listener is null.
+     * @apiNote Parse the text asynchronously.
+     * This method usages a shared background thread pool to parse text, see {@link ParserExecutors#getDefaultExecutor()}. If you want to scale your CPU threads and divide workload, the asynchronous mode is recommended.
+     */
+    public void parseAsynchronously(ParseEventListener listener) throws TemplateException {
+
+        parseAsynchronously(listener, ParserExecutors.getDefaultExecutor());
     }
 
     /**
-     * method to parse text
+     * @param listener the listener that will be used to receive callback for registration event.
+     * @param executor the executor to run the parsing task, the listener is also invoked from this executor.
+     * @throws TemplateException if any error occurs during parsing, the listener or executor is null, or the executor do not accept the task.
+     * @apiNote Parse the text asynchronously with the given executor.
+     * Use this method to share a thread pool of your own with other work, the executor is not shutdown by this method.
      */
-    private String parseWithoutComment() throws TemplateException {
+    public void parseAsynchronously(ParseEventListener listener, Executor executor) throws TemplateException {
 
-        // check if input string is null
-        if (template == null || keyValuePairs == null || textToParse.equals(null + "\n")) {
-            throw new TemplateException("Input string, Identifier with values or template instance is null.");
+        if (listener == null) {
+            throw new TemplateException("The listener cannot be null.");
         }
 
-        final StringBuilder parsedText = new StringBuilder();
-        final int textLen = textToParse.length();
-        final int templateStartLen = template.getStartTemplate().length();
-        final int templateEndLen = template.getEndTemplate().length();
+        if (executor == null) {
+            throw new TemplateException("The executor cannot be null.");
+        }
 
+        final long submittedAt = System.nanoTime();
 
-        for (int i = 0; i < textToParse.length(); i++) {
+        try {
+            executor.execute(() -> {
+                try {
 
-            if (i + templateStartLen < textLen) {
+                    String parsedText = parseWithoutComment(false, submittedAt);
+                    listener.onParseFinished(parsedText);
+                } catch (TemplateException e) {
+                    listener.onException(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new TemplateException("The executor did not accept the parsing task.");
+        }
+    }
 
-                String buffer = textToParse.substring(i, i + templateStartLen);
+    /**
+     * @return the future of the parsed text, it is completed exceptionally with {@link TemplateException} if any error occurs during parsing.
+     * @apiNote Parse the text asynchronously with the shared executor, see {@link ParserExecutors#getDefaultExecutor()}.
+     * Unlike {@link #parseAsynchronously(ParseEventListener)}, the result can be composed with other asynchronous work, joined or timed out.
+     */
+    public CompletableFuture<String> parseAsync() {
 
-                // Start template found.
-                if (buffer.equals(template.getStartTemplate())) {
+        return parseAsync(ParserExecutors.getDefaultExecutor());
+    }
 
-                    // The key
-                    String key;
+    /**
+     * @param parseExecutor the executor to run the parsing task, the dependent stages are also run by this executor.
+     * @return the future of the parsed text, it is completed exceptionally with {@link TemplateException} if any error occurs during parsing.
+     * @apiNote Parse the text asynchronously with the given executor.
+     */
+    public CompletableFuture<String> parseAsync(Executor parseExecutor) {
 
-                    // Buffer for end template.
-                    for (int j = i + templateStartLen; j < textLen; j++) {
+        return parseAsync(parseExecutor, Runnable::run);
+    }
 
-                        // Check for syntax error only when isCheckForBasicSyntax is true.
-                        if (isCheckForBasicSyntax && j + templateStartLen < textLen) {
+    /**
+     * @param parseExecutor    the executor to run the parsing task.
+     * @param callbackExecutor the executor to complete the future, so the dependent stages added without an executor of their own are run by this executor.
+     * @return the future of the parsed text, it is completed exceptionally with {@link TemplateException} if any error occurs during parsing.
+     * @apiNote Parse the text asynchronously with the given executors. For example, parse with a CPU bound pool and continue the work with an I/O pool.
+     */
+    public CompletableFuture<String> parseAsync(Executor parseExecutor, Executor callbackExecutor) {
 
-                            // Create a buffer of startTemplate, so during iterating, if we found another start point, this is likely a syntax error.
-                            String buffer2 = textToParse.substring(j, j + templateStartLen);
+        final long submittedAt = System.nanoTime();
+        return ParserExecutors.supplyAsync(() -> parseWithoutComment(false, submittedAt), parseExecutor, callbackExecutor);
+    }
 
-                            // If we found another start template, this is likely a syntax error.
-                            if (buffer2.equals(template.getStartTemplate())) {
-                                throw new TemplateException("Syntax error. Found another start template, while iterating for end template. There is likely a syntax error in the text. Please fix that first.");
-                            }
+    /**
+     * @param variableResolver the resolver that will be used to look up the values of the identifiers asynchronously, instead of the key-value pairs of this instance.
+     * @return the future of the parsed text, it is completed exceptionally with {@link TemplateException} if any error occurs during parsing, or with the exception of a look up that failed.
+     * @apiNote Parse the text with the values looked up asynchronously. The text is scanned in the calling thread, later on the look up of every identifier found in the text is started at once,
+     * and the text is rendered when all of them are completed. So the parse waits as long as the slowest look up, instead of the sum of all look ups.
+     * @see CompiledTemplate#renderAsync(AsyncVariableResolver)
+     */
+    public CompletableFuture<String> parseAsyncWith(AsyncVariableResolver variableResolver) {
+
+        try {
+            return compile(null).renderAsync(variableResolver);
+        } catch (TemplateException e) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
 
-                        }
-                        // Avoid null pointer
-                        if (j + templateEndLen < textLen) {
+    /**
+     * method to parse text, and report the metrics if there is any.
+     *
+     * @param isInParallel if true, the text is compiled and rendered in parallel.
+     * @param submittedAt  the time the asynchronous parsing task is submitted at, by {@link System#nanoTime()}, or {@link #NOT_QUEUED} for synchronous parsing.
+     */
+    private String parseWithoutComment(boolean isInParallel, long submittedAt) throws TemplateException {
 
-                            String endBuf = textToParse.substring(j, j + templateEndLen);
+        final ParseMetrics metrics = parseMetrics;
+        if (metrics == null) {
+            return isInParallel ? compileInParallel().renderInParallel(keyValuePairs, renderBuffers, null) : compile().render(keyValuePairs, renderBuffers, null);
+        }
 
-                            if (endBuf.equals(template.getEndTemplate())) {
+        final long startedAt = System.nanoTime();
+        final long queueWait = submittedAt == NOT_QUEUED ? 0 : startedAt - submittedAt;
+        final CompiledTemplate.RenderCounts counts = new CompiledTemplate.RenderCounts();
+        CompiledTemplate compiledTemplate = null;
 
+        try {
+            compiledTemplate = isInParallel ? compileInParallel() : compile();
+            String parsedText = isInParallel ? compiledTemplate.renderInParallel(keyValuePairs, renderBuffers, counts) : compiledTemplate.render(keyValuePairs, renderBuffers, counts);
 
-                                // End template found.
-                                key = textToParse.substring(i + templateStartLen, j);
-                                // Replace the variable with the value.
-                                parsedText.append(getValueFromKeyValuePairs(key));
+            metrics.onParseFinished(newStatistics(compiledTemplate, counts, startedAt, queueWait, parsedText.length()));
+            return parsedText;
+        } catch (TemplateException e) {
+            metrics.onParseFailed(newStatistics(compiledTemplate, counts, startedAt, queueWait, -1), e);
+            throw e;
+        }
+    }
 
-                                // Move the pointer to the end of end template.
-                                i = j + templateEndLen - 1;
+    /**
+     * method to create the metrics of a parse, the compiled text is null if the text has any syntax error. The identifiers without value are counted by the render.
+     */
+    private ParseStatistics newStatistics(CompiledTemplate compiledTemplate, CompiledTemplate.RenderCounts counts, long startedAt, long queueWait, int outputLength) {
 
-                                // Break the loop.
-                                break;
-                            }
+        final long duration = System.nanoTime() - startedAt;
+        final int inputLength = textToParse == null ? 0 : textToParse.length();
 
-                        } else {
+        if (compiledTemplate == null) {
+            return new ParseStatistics(duration, queueWait, inputLength, outputLength, 0, 0, 0);
+        }
 
-                            // ?? Why not closing text with ending identifier?
-                            throw new TemplateException("End template not found.");
-                        }
-                    }
-                } else {
+        return new ParseStatistics(duration, queueWait, inputLength, outputLength, compiledTemplate.getIdentifierCount(), counts.missingValueCount, counts.defaultValueCount);
+    }
 
-                    // Append the character to the parsed text.
-                    parsedText.append(textToParse.charAt(i));
-                }
+    /**
+     * method to compile the text in parallel, after checking the input. A text with more than one template is compiled in the calling thread.
+     */
+    private CompiledTemplate compileInParallel() throws TemplateException {
 
-            } else {
+        if (templates != null) {
+            return compile();
+        }
 
-                // append to result
-                parsedText.append(textToParse.charAt(i));
-            }
+        checkInput();
 
+        try {
+            return CompiledTemplate.compileInParallel(textToParse, template, isCheckForBasicSyntax);
+        } catch (TemplateException e) {
+            throw CompiledTemplate.firstErrorInTextOrder(textToParse, new Template[]{template}, isCheckForBasicSyntax, keyValuePairs::get, e);
         }
+    }
 
+    /**
+     * method to compile the text, after checking the input. The values of the key-value pairs of this instance are used to find the first error, see {@link #compile(VariableResolver)}.
+     */
+    private CompiledTemplate compile() throws TemplateException {
 
-        // Return the parsed text.
-        return parsedText.toString();
-
+        checkInput();
+        return compile(keyValuePairs::get);
     }
 
     /**
-     * Method to get the value from key-value pairs from a key.
+     * method to compile the text, after checking the input. A text that can not be compiled fails with its first error in text order, as the version 2.0 did.
+     * So a mandatory identifier without value, that is found before the syntax error, is reported instead of the syntax error.
      *
-     * @param key the key to get the value from.
-     * @return value the value from the key.
-     * @throws TemplateException if the key is not found in the key-value pairs.
+     * @param variableResolver the resolver to look up the values of the identifiers before the syntax error, or null to report the syntax error.
      */
-    private String getValueFromKeyValuePairs(String key) throws TemplateException {
+    private CompiledTemplate compile(VariableResolver variableResolver) throws TemplateException {
 
-        // So, here, we got the key, this may contain parameters or flags, we need to read them all.
-        KeyObjects keyObjects = generateKeyObjectFromIdentifier(key);
+        checkInput();
 
-        // check if value is optional
-        String val = valueFromSets(keyObjects.getKeyName());
+        try {
+            return compileText();
+        } catch (TemplateException e) {
+            if (variableResolver == null) {
+                throw e;
+            }
+            throw CompiledTemplate.firstErrorInTextOrder(textToParse, templates != null ? CompiledTemplate.toTemplateArray(templates) : new Template[]{template}, isCheckForBasicSyntax, variableResolver, e);
+        }
+    }
 
-        if (keyObjects.isOptional()) {
+    /**
+     * method to compile the text with the templates of this instance, through the cache if it is set.
+     */
+    private CompiledTemplate compileText() throws TemplateException {
 
-            return val != null ? val : keyObjects.getOptionalValue();
-        } else {
+        if (templates != null) {
+            return new CompiledTemplate(textToParse, templates, isCheckForBasicSyntax);
+        }
 
-            if (val != null) {
-                return val;
-            } else {
-                throw new TemplateException("Variable '" + keyObjects.getKeyName() + "' has no value passed. try to put value though constructor or putVariableNameAndValue method.");
-            }
+        final TemplateCache cache = templateCache;
+        if (cache != null) {
+            return cache.get(textToParse, template, isCheckForBasicSyntax);
+        }
+        return new CompiledTemplate(textToParse, template, isCheckForBasicSyntax);
+    }
 
+    /**
+     * method to check the input is not null.
+     */
+    private void checkInput() throws TemplateException {
+
+        // check if input string is null
+        if (template == null || keyValuePairs == null || textToParse == null) {
+            throw new TemplateException("Input string, Identifier with values or template instance is null.");
         }
+    }
 
+    /**
+     * @param in            the UTF-8 encoded file to parse.
+     * @param out           the file to write the parsed text into, it is created or replaced only when the whole input file is parsed, so an error leaves it as it was. A replaced file keeps its POSIX permissions, and its owner and group when they can be set. It must not be the input file.
+     * @param template      the template that will be used to determine the variables in the text.
+     * @param keyValuePairs the key-value pairs that will be used to replace the variables in the text.
+     * @throws TemplateException if any error occurs during parsing, or the output file is the input file.
+     * @throws IOException       if the input or output file throws an error.
+     * @apiNote Parse a file into another file. The input file is mapped into memory and parsed as bytes, the literal text is copied into the output file without decoding it into String,
+     * only the values of the identifiers are encoded. This is recommended for large files, instead of reading the file into a String, parsing it and writing the String back.
+     */
+    public static void renderFile(Path in, Path out, Template template, Map<String, String> keyValuePairs) throws TemplateException, IOException {
 
+        renderFile(in, out, template, keyValuePairs, false);
     }
 
-    private String valueFromSets(String key) {
-        for (Map.Entry<String, String> entry : keyValuePairs.entrySet()) {
-            if (entry.getKey().equals(key)) {
-                return entry.getValue();
-            }
+    /**
+     * @param in                       the UTF-8 encoded file to parse.
+     * @param out                      the file to write the parsed text into, it is created or replaced only when the whole input file is parsed, so an error leaves it as it was. A replaced file keeps its POSIX permissions, and its owner and group when they can be set. It must not be the input file.
+     * @param template                 the template that will be used to determine the variables in the text.
+     * @param keyValuePairs            the key-value pairs that will be used to replace the variables in the text.
+     * @param isUseBasicSyntaxChecking if true, the parser will check for basic syntax errors.
+     * @throws TemplateException if any error occurs during parsing, or the output file is the input file.
+     * @throws IOException       if the input or output file throws an error.
+     * @apiNote Parse a file into another file, see {@link #renderFile(Path, Path, Template, Map)}.
+     */
+    public static void renderFile(Path in, Path out, Template template, Map<String, String> keyValuePairs, Boolean isUseBasicSyntaxChecking) throws TemplateException, IOException {
+
+        if (in == null || out == null || template == null || keyValuePairs == null) {
+            throw new TemplateException("Input file, output file, Identifier with values or template instance is null.");
         }
-        return null;
+
+        MappedFileRenderer.render(in, out, template, keyValuePairs, isUseBasicSyntaxChecking, MappedFileRenderer.MAX_WINDOW_SIZE);
     }
 
     /**
@@ -375,115 +579,43 @@ public class TextParser {
     }
 
     /**
-     * This method extract all necessary information from the identifier.
+     * This method used to set the metrics, that every parse of this class reports to. The metrics are shared by all instances of this class.
+     * See {@link ParseMetrics} for the methods, that report to it.
      *
-     * @param keyData the identifier to extract information from.
-     * @return the keyObjects.
-     * @throws TemplateException if there is key is optional but no optional value is provided.
+     * @param metrics the metrics to report to, or null to stop reporting, that is the default.
+     * @see ParseMetrics
      */
-    private KeyObjects generateKeyObjectFromIdentifier(String keyData) throws TemplateException {
-
-        boolean isOptional = false;
-
-        // Check if the key started with ? mark, this should be optional.
-        if (keyData.startsWith("?")) {
-
-            String[] keyAndDefVal = extractIdentifierNameAndDefValue(keyData.substring(1));
-            return new KeyObjects(true, keyAndDefVal[0], keyAndDefVal[1]);
-        }
-
-        return new KeyObjects(isOptional, keyData, null);
+    public static void setParseMetrics(ParseMetrics metrics) {
+        parseMetrics = metrics;
     }
 
-
     /**
-     * Method to extract identifier name and defValue from the key data
+     * Method to get the metrics, that every parse of this class reports to.
      *
-     * @param keyData the key data containing identifier name and def value.
-     * @return KeyObjects the key object containing identifier name and def value. The first element is the identifier name, the second element is the def value.
-     * @throws TemplateException if the key data is not valid, such as missing identifier name or def value.
+     * @return the metrics, or null if the metrics are not reported.
      */
-    private String[] extractIdentifierNameAndDefValue(String keyData) throws TemplateException {
-
-        String[] identifierNameAndDefValue = new String[2];
-
-        StringBuilder keyExtraction = new StringBuilder();
-        StringBuilder defValueExtraction = new StringBuilder();
-        boolean isDefValueMatched = false;
-
-
-        // First loop start to extract key
-        for (int i = 0; i < keyData.length(); i++) {
-
-            // Stop extract identifier when a whitespace is found.
-            if (Character.isWhitespace(keyData.charAt(i))) {
-
-                // Add to identifier name.
-                identifierNameAndDefValue[0] = keyExtraction.toString();
-
-                // Validation for NullPointer
-                if (i + 1 >= keyData.length()) {
-                    // There is likely no def value, an optional parameter must have a def value
-                    throw new TemplateException("Missing def value for optional parameter.");
-                }
-
-                // There is possible index, let's check if there is def value exists
-                else {
-
-                    // Define def value parameter identifier
-                    String defValueIdentifier = "defVal=\"";
-                    // second loo[ to extract def value
-                    for (int j = i + 1; j < keyData.length(); j++) {
-
-                        // Read by buffer size of defValueIdentifier.
-                        if (j + defValueIdentifier.length() < keyData.length()) {
-                            String buffer = keyData.substring(j, j + defValueIdentifier.length());
-                            if (buffer.equals(defValueIdentifier)) {
-                                isDefValueMatched = true;
-
-                                // Extract def value by using third loop
-                                for (int k = j + defValueIdentifier.length(); k < keyData.length(); k++) {
-
-                                    char c = keyData.charAt(k);
-
-                                    // End point, you can use double quotes to end the def value, and If prev char is \, then it is an escape char.
-                                    if (c == '"' && keyData.charAt(k - 1) != '*') {
-                                        identifierNameAndDefValue[1] = defValueExtraction.toString();
-                                        break;
-                                    }
-
-                                    else if( k + 1 <= keyData.length() && (c == '*' && keyData.charAt(k + 1) == '"')) {
-
-                                        // Add the escape char to the def value.
-                                        defValueExtraction.append('"');
-                                        k++;
-                                    }
-                                    else {
-                                        defValueExtraction.append(c);
-                                    }
-
-
-                                }
-
-
-                            }
-                        }
-
-
-                    }
-                }
-            } else {
-
-                // Append to key extraction.
-                keyExtraction.append(keyData.charAt(i));
-            }
+    public static ParseMetrics getParseMetrics() {
+        return parseMetrics;
+    }
 
-        }
+    /**
+     * This method used to set the cache, that the text is compiled through. So the same text parsed by many instances is scanned only once.
+     *
+     * @param templateCache the cache to look up the compiled text, or null to compile the text every time, that is the default.
+     * @see TemplateCache#getDefault()
+     */
+    public void setTemplateCache(TemplateCache templateCache) {
+        this.templateCache = templateCache;
+    }
 
-        if (!isDefValueMatched) {
-            throw new TemplateException("Def value not found, you can define one using defVal=\"defValue\"");
-        }
-        return identifierNameAndDefValue;
+    /**
+     * This method used to set the buffers, that the parsed text is written into. So a buffer that has grown is reused by the next parse, instead of a new buffer for each parse.
+     *
+     * @param renderBuffers the buffers, for example {@link RenderBuffers#threadLocal(int)}, or null to allocate a new buffer for each parse, that is the default.
+     * @see CompiledTemplate#render(Map, RenderBuffers)
+     */
+    public void setRenderBuffers(RenderBuffers renderBuffers) {
+        this.renderBuffers = renderBuffers;
     }
 
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class is used to search a template in any {@link CharSequence}, in place and with correct bounds.
+ * A {@link String} is searched with {@link String#indexOf(String, int)}, that is the fastest way. Any other sequence, for example a {@link java.nio.CharBuffer} or {@link StringBuilder},
+ * is searched through {@link CharSequence#charAt(int)}, so it is never copied.
+ */
+final class TextSearch {
+
+    /**
+     * Suppress default constructor for non-instantiability.
+     */
+    private TextSearch() {
+        throw new AssertionError("This class is not intended to be instantiated.");
+    }
+
+    /**
+     * Method to find the first index of the target in the text, at or after the index.
+     *
+     * @param text      the text to search in.
+     * @param target    the target to search for, must not be empty.
+     * @param fromIndex the index to start searching from.
+     * @return the index of the target, or -1 if it is not found.
+     */
+    static int indexOf(CharSequence text, String target, int fromIndex) {
+
+        if (text instanceof String) {
+            return ((String) text).indexOf(target, fromIndex);
+        }
+
+        final char first = target.charAt(0);
+        final int last = text.length() - target.length();
+
+        for (int i = Math.max(fromIndex, 0); i <= last; i++) {
+            if (text.charAt(i) == first && regionMatches(text, i, target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method to check the target is found in the text at the index.
+     *
+     * @param text   the text to search in.
+     * @param index  the index of the text to compare from.
+     * @param target the target to compare.
+     * @return true if the target is found at the index.
+     */
+    static boolean startsWith(CharSequence text, int index, String target) {
+
+        if (text instanceof String) {
+            return ((String) text).startsWith(target, index);
+        }
+        return index >= 0 && index <= text.length() - target.length() && regionMatches(text, index, target);
+    }
+
+    /**
+     * Method to compare the target with the text at the index, the bounds must be already checked.
+     */
+    private static boolean regionMatches(CharSequence text, int index, String target) {
+
+        for (int k = 0; k < target.length(); k++) {
+            if (text.charAt(index + k) != target.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.KeyObjects;
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class is used to parse UTF-8 encoded text as bytes. The start and end template are looked up as UTF-8 byte sequences,
+ * as UTF-8 never encodes a character into bytes that can be read as another character, this finds exactly the same templates as {@link TextParser}.
+ * The literal text is written into the output as it is, only the identifiers are decoded, and only the values are encoded.
+ * <p>
+ * It works in the same way as {@link java.nio.charset.CharsetDecoder#decode(ByteBuffer, java.nio.CharBuffer, boolean)}, the input can be given in parts,
+ * and the bytes that can not be parsed yet are left in the input to be given again with the next part.
+ */
+final class Utf8TemplateRenderer {
+
+    /**
+     * The output of the parsed bytes.
+     */
+    interface ByteSink {
+
+        /**
+         * Write all remaining bytes of the buffer.
+         */
+        void write(ByteBuffer bytes) throws IOException;
+    }
+
+    private final byte[] startTemplate;
+    private final byte[] endTemplate;
+    private final Template template;
+    private final Map<String, String> keyValuePairs;
+    private final boolean isCheckForBasicSyntax;
+
+    Utf8TemplateRenderer(Template template, Map<String, String> keyValuePairs, boolean isCheckForBasicSyntax) {
+
+        this.startTemplate = template.getStartTemplate().getBytes(StandardCharsets.UTF_8);
+        this.endTemplate = template.getEndTemplate().getBytes(StandardCharsets.UTF_8);
+        this.template = template;
+        this.keyValuePairs = keyValuePairs;
+        this.isCheckForBasicSyntax = isCheckForBasicSyntax;
+    }
+
+    /**
+     * Method to parse the bytes from the position to the limit of the input.
+     * When this method returns, the position of the input is set after the last parsed byte.
+     * The bytes left are an identifier that is not closed yet, or a part of the start template, they must be given again with more bytes.
+     *
+     * @param in           the bytes to parse.
+     * @param isEndOfInput if true, there is no more bytes after this input, so every byte must be parsed.
+     * @param out          the output to write the parsed bytes into.
+     * @throws TemplateException if any error occurs during parsing.
+     * @throws IOException       if the output throws an error.
+     */
+    void render(ByteBuffer in, boolean isEndOfInput, ByteSink out) throws TemplateException, IOException {
+
+        final int limit = in.limit();
+        final int templateStartLen = startTemplate.length;
+        final int templateEndLen = endTemplate.length;
+
+        int pos = in.position();
+
+        // First start template at or after the content of the last identifier, used by basic syntax checking.
+        // Remembering it keep the scan linear, as a start template found far away is reused for the following identifiers.
+        int nextStart = -1;
+
+        while (true) {
+
+            int start = nextStart >= pos ? nextStart : indexOf(in, pos, limit, startTemplate);
+
+            if (start < 0) {
+
+                // Bytes at the end can be the first part of a start template.
+                int safe = isEndOfInput ? limit : Math.max(pos, limit - (templateStartLen - 1));
+                write(out, in, pos, safe);
+                in.position(safe);
+                return;
+            }
+
+            // Start template found.
+            write(out, in, pos, start);
+
+            final int contentStart = start + templateStartLen;
+            final int end = indexOf(in, contentStart, limit, endTemplate);
+
+            // Check for syntax error only when isCheckForBasicSyntax is true.
+            if (isCheckForBasicSyntax) {
+
+                if (nextStart < contentStart) {
+                    nextStart = indexOf(in, contentStart, limit, startTemplate);
+                }
+
+                // If we found another start template before the end template, this is likely a syntax error.
+                if (nextStart >= 0 && (end < 0 || nextStart <= end)) {
+                    throw new TemplateException("Syntax error. Found another start template, while iterating for end template. There is likely a syntax error in the text. Please fix that first.");
+                }
+            }
+
+            if (end < 0) {
+
+                if (isEndOfInput) {
+                    // ?? Why not closing text with ending identifier?
+                    throw new TemplateException("End template not found.");
+                }
+
+                // The identifier is not closed yet, parse it again with more bytes.
+                in.position(start);
+                return;
+            }
+
+            // End template found, decode the identifier and write its value.
+            byte[] identifier = new byte[end - contentStart];
+            in.duplicate().position(contentStart).get(identifier);
+
+            KeyObjects keyObjects = IdentifierParser.generateKeyObjectFromIdentifier(new String(identifier, StandardCharsets.UTF_8), template);
+            String val = IdentifierParser.escapedValue(keyObjects, IdentifierParser.valueOrDefault(keyObjects, keyValuePairs.get(keyObjects.getKeyName())));
+            out.write(ByteBuffer.wrap(val.getBytes(StandardCharsets.UTF_8)));
+
+            pos = end + templateEndLen;
+        }
+    }
+
+    /**
+     * Method to find a template in a range of the buffer.
+     *
+     * @return the index of the template, or -1 if the template is not found in full.
+     */
+    private static int indexOf(ByteBuffer buffer, int from, int to, byte[] tag) {
+
+        final byte first = tag[0];
+        final int max = to - tag.length;
+
+        for (int i = from; i <= max; i++) {
+
+            // Skip until the first byte matches.
+            if (buffer.get(i) != first) {
+                continue;
+            }
+
+            int k = 1;
+            while (k < tag.length && buffer.get(i + k) == tag[k]) {
+                k++;
+            }
+            if (k == tag.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method to write a range of the buffer into the output, without copying it.
+     */
+    private static void write(ByteSink out, ByteBuffer in, int start, int end) throws IOException {
+
+        if (start < end) {
+            out.write(in.duplicate().limit(end).position(start));
+        }
+    }
+}
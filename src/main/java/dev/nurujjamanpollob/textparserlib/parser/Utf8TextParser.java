@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class is used to parse UTF-8 encoded text as bytes, for example the body of an HTTP request or response, without decoding it into a String and encoding it back.
+ * <p>
+ * The start and end template are looked up as UTF-8 byte sequences, and the literal text is copied into the output as it is. Only the identifiers are decoded, and only the values are encoded.
+ * As UTF-8 never encodes a character into bytes that can be read as another character, the parsed bytes are exactly the UTF-8 encoding of what {@link TextParser} returns for the decoded text.
+ * <pre>
+ *     <code>
+ *         Utf8TextParser parser = new Utf8TextParser(new Template("*(", ")*"), keyValuePairs);
+ *
+ *         // Parse straight into the buffer that will be sent
+ *         parser.parse(requestBody, responseBuffer);
+ *     </code>
+ * </pre>
+ * This class do not hold any state between parse, so the same instance can be used from multiple threads at the same time, as long as the key-value pairs are not changed.
+ */
+public final class Utf8TextParser {
+
+    /**
+     * Size of the chunk, that is used to copy a direct buffer into an {@link OutputStream}.
+     */
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    /**
+     * Suppress default constructor for non-instantiability without parameters.
+     */
+    private Utf8TextParser() {
+        throw new AssertionError("This class cannot be instantiated without parameters.");
+    }
+
+    private final Utf8TemplateRenderer renderer;
+
+    /**
+     * Create an instance of Utf8TextParser class.
+     *
+     * @param template      the template that will be used to determine the variables in the text.
+     * @param keyValuePairs the key-value pairs that will be used to replace the variables in the text.
+     * @throws TemplateException if the template or key-value pairs is null.
+     */
+    public Utf8TextParser(Template template, Map<String, String> keyValuePairs) throws TemplateException {
+        this(template, keyValuePairs, false);
+    }
+
+    /**
+     * Create an instance of Utf8TextParser class.
+     *
+     * @param template                 the template that will be used to determine the variables in the text.
+     * @param keyValuePairs            the key-value pairs that will be used to replace the variables in the text.
+     * @param isUseBasicSyntaxChecking if true, the parser will check for basic syntax errors.
+     * @throws TemplateException if the template or key-value pairs is null.
+     */
+    public Utf8TextParser(Template template, Map<String, String> keyValuePairs, Boolean isUseBasicSyntaxChecking) throws TemplateException {
+
+        if (template == null || keyValuePairs == null) {
+            throw new TemplateException("Identifier with values or template instance is null.");
+        }
+
+        this.renderer = new Utf8TemplateRenderer(template, keyValuePairs, isUseBasicSyntaxChecking);
+    }
+
+    /**
+     * @param in  the UTF-8 encoded text to parse, from its position to its limit. The position is moved to the limit, when the text is parsed.
+     * @param out the buffer to write the parsed text into, from its position. The position is moved after the parsed text.
+     * @throws TemplateException if any error occurs during parsing, or the output buffer has no space left for the parsed text. The position of both buffers are not changed in this case.
+     * @apiNote Parse the bytes of the input buffer, and write the parsed bytes into the output buffer.
+     */
+    public void parse(ByteBuffer in, ByteBuffer out) throws TemplateException {
+
+        if (in == null || out == null) {
+            throw new TemplateException("The input or output cannot be null.");
+        }
+
+        final int outPosition = out.position();
+
+        try {
+            renderer.render(in, true, out::put);
+        } catch (BufferOverflowException e) {
+            out.position(outPosition);
+            throw new TemplateException("The output buffer has no space left for the parsed text.");
+        } catch (TemplateException e) {
+            out.position(outPosition);
+            throw e;
+        } catch (IOException e) {
+            // A buffer never throws IOException
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * @param in  the UTF-8 encoded text to parse, from its position to its limit. The position is moved to the limit, when the text is parsed.
+     * @param out the output to write the parsed text into, it is not closed by this method.
+     * @throws TemplateException if any error occurs during parsing. As the parsed text is written while parsing, some parsed text can be already written in this case.
+     * @throws IOException       if the output throws an error.
+     * @apiNote Parse the bytes of the input buffer, and write the parsed bytes into the output stream.
+     */
+    public void parse(ByteBuffer in, OutputStream out) throws TemplateException, IOException {
+
+        if (in == null || out == null) {
+            throw new TemplateException("The input or output cannot be null.");
+        }
+
+        renderer.render(in, true, new OutputStreamSink(out));
+    }
+
+    /**
+     * @param in  the UTF-8 encoded text to parse.
+     * @param out the output to write the parsed text into, it is not closed by this method.
+     * @throws TemplateException if any error occurs during parsing. As the parsed text is written while parsing, some parsed text can be already written in this case.
+     * @throws IOException       if the output throws an error.
+     * @apiNote Parse the bytes, and write the parsed bytes into the output stream.
+     */
+    public void parse(byte[] in, OutputStream out) throws TemplateException, IOException {
+
+        if (in == null) {
+            throw new TemplateException("The input or output cannot be null.");
+        }
+
+        parse(ByteBuffer.wrap(in), out);
+    }
+
+    /**
+     * @param in the UTF-8 encoded text to parse.
+     * @return the UTF-8 encoded parsed text.
+     * @throws TemplateException if any error occurs during parsing.
+     * @apiNote Parse the bytes, and return the parsed bytes.
+     */
+    public byte[] parse(byte[] in) throws TemplateException {
+
+        if (in == null) {
+            throw new TemplateException("The input cannot be null.");
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(in.length);
+
+        try {
+            parse(ByteBuffer.wrap(in), out);
+        } catch (IOException e) {
+            // ByteArrayOutputStream never throws IOException
+            throw new AssertionError(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Output that writes into an {@link OutputStream}, a heap buffer is written by offset and a direct buffer is copied in chunks.
+     */
+    private static final class OutputStreamSink implements Utf8TemplateRenderer.ByteSink {
+
+        private final OutputStream out;
+        private byte[] chunk;
+
+        OutputStreamSink(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(ByteBuffer bytes) throws IOException {
+
+            if (bytes.hasArray()) {
+                out.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                bytes.position(bytes.limit());
+                return;
+            }
+
+            if (chunk == null) {
+                chunk = new byte[COPY_BUFFER_SIZE];
+            }
+
+            while (bytes.hasRemaining()) {
+                int length = Math.min(chunk.length, bytes.remaining());
+                bytes.get(chunk, 0, length);
+                out.write(chunk, 0, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import java.util.Arrays;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class holds identifier values for a {@link CompiledTemplate}, placed by the slot of each identifier.
+ * The slot of an identifier name can be found once with {@link CompiledTemplate#getSlot(String)}, later on the values can be put by slot with {@link #putValue(int, String)},
+ * so rendering with {@link CompiledTemplate#render(VariableBinding)} do not need any map look up.
+ * <pre>
+ *     <code>
+ *         CompiledTemplate compiledTemplate = template.compile("Hi, I am *(name)*");
+ *         int nameSlot = compiledTemplate.getSlot("name");
+ *
+ *         VariableBinding binding = compiledTemplate.newBinding();
+ *         binding.putValue(nameSlot, "Nurujjaman Pollob");
+ *
+ *         String parsedText = compiledTemplate.render(binding);
+ *     </code>
+ * </pre>
+ * This class is not thread safe, use a binding per thread, or per render.
+ */
+public final class VariableBinding {
+
+    private final CompiledTemplate compiledTemplate;
+
+    /**
+     * Values by slot, null if there is no value passed.
+     */
+    final String[] values;
+
+    VariableBinding(CompiledTemplate compiledTemplate, String[] values) {
+        this.compiledTemplate = compiledTemplate;
+        this.values = values;
+    }
+
+    /**
+     * Put the value of an identifier by slot.
+     *
+     * @param slot          the slot of the identifier, see {@link CompiledTemplate#getSlot(String)}.
+     * @param variableValue the value of the identifier, or null to remove the value.
+     */
+    public void putValue(int slot, String variableValue) {
+        values[slot] = variableValue;
+    }
+
+    /**
+     * Put the value of an identifier by name. The value is ignored, if the compiled text do not use this identifier.
+     *
+     * @param variableName  the identifier name.
+     * @param variableValue the value of the identifier, or null to remove the value.
+     */
+    public void putVariableNameAndValue(String variableName, String variableValue) {
+
+        int slot = compiledTemplate.getSlot(variableName);
+        if (slot >= 0) {
+            values[slot] = variableValue;
+        }
+    }
+
+    /**
+     * Get the value of an identifier by slot.
+     *
+     * @param slot the slot of the identifier.
+     * @return the value, or null if there is no value passed.
+     */
+    public String getValue(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Remove all values, so this binding can be used for another render.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+    }
+
+    /**
+     * Get the compiled template, this binding is created for.
+     *
+     * @return the compiled template.
+     */
+    public CompiledTemplate getCompiledTemplate() {
+        return compiledTemplate;
+    }
+}
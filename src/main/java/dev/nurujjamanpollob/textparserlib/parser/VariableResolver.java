@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This interface is used to look up the value of an identifier only when it is needed, instead of computing every value into a map before parsing.
+ * <p>
+ * The resolver is asked only for the identifiers, that are found in the text, and only once per render for each identifier name, even if the identifier is used many times.
+ * So a value that is costly to compute, for example a database look up, is computed only if the text use it.
+ * <pre>
+ *     <code>
+ *         Map&lt;String, Supplier&lt;String&gt;&gt; suppliers = new HashMap&lt;&gt;();
+ *         suppliers.put("name", () -&gt; userRepository.findName(userId));
+ *
+ *         String parsedText = compiledTemplate.render(VariableResolver.fromSuppliers(suppliers));
+ *     </code>
+ * </pre>
+ * @see CompiledTemplate#render(VariableResolver)
+ */
+@FunctionalInterface
+public interface VariableResolver {
+
+    /**
+     * Method to look up the value of an identifier.
+     *
+     * @param variableName the identifier name.
+     * @return the value, or null if there is no value. The default value is used for an optional identifier without value.
+     * @throws TemplateException if the value can not be looked up, the render fails with this exception. A runtime exception thrown here fails the render as well,
+     *                           it is held as the cause of a {@link TemplateException}.
+     */
+    String resolve(String variableName) throws TemplateException;
+
+    /**
+     * Method to create a resolver, that looks up the values from the key-value pairs.
+     *
+     * @param keyValuePairs the key-value pairs, they are not copied.
+     * @return the resolver.
+     * @throws TemplateException if the key-value pairs is null.
+     */
+    static VariableResolver fromMap(Map<String, String> keyValuePairs) throws TemplateException {
+
+        if (keyValuePairs == null) {
+            throw new TemplateException("Identifier with values is null.");
+        }
+        return keyValuePairs::get;
+    }
+
+    /**
+     * Method to create a resolver, that computes the value of an identifier with its supplier, only when it is needed.
+     *
+     * @param suppliers the supplier of each identifier name, they are not copied. A supplier can return null, if there is no value.
+     * @return the resolver.
+     * @throws TemplateException if the suppliers is null.
+     */
+    static VariableResolver fromSuppliers(Map<String, ? extends Supplier<String>> suppliers) throws TemplateException {
+
+        if (suppliers == null) {
+            throw new TemplateException("Identifier with value suppliers is null.");
+        }
+
+        return variableName -> {
+            Supplier<String> supplier = suppliers.get(variableName);
+            return supplier == null ? null : supplier.get();
+        };
+    }
+}
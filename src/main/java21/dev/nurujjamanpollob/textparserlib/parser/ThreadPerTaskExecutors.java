@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlib.parser;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @apiNote This class creates the thread per task executor used by {@link ParserExecutors#getVirtualThreadExecutor()}.
+ * <p>
+ * This is the Java 21 version, loaded from <b>META-INF/versions/21</b> of the multi-release jar. It starts a virtual thread per task,
+ * so a huge number of renders can wait on slow value look up at the same time, without sizing a thread pool.
+ */
+final class ThreadPerTaskExecutors {
+
+    /**
+     * Suppress default constructor for non-instantiability.
+     */
+    private ThreadPerTaskExecutors() {
+        throw new AssertionError("This class is not intended to be instantiated.");
+    }
+
+    /**
+     * Check if the tasks are run by virtual threads.
+     *
+     * @return true, as Java 21 has virtual threads.
+     */
+    static boolean isVirtualThreadSupported() {
+        return true;
+    }
+
+    /**
+     * Method to create an executor, that runs each task in a virtual thread of its own.
+     *
+     * @param namePrefix the prefix of the thread names.
+     * @return the executor.
+     */
+    static Executor newThreadPerTaskExecutor(String namePrefix) {
+
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 1).factory());
+    }
+}
@@ -0,0 +1,593 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlibtestpackage;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.AsyncVariableResolver;
+import dev.nurujjamanpollob.textparserlib.parser.CompiledTemplate;
+import dev.nurujjamanpollob.textparserlib.parser.ParserExecutors;
+import dev.nurujjamanpollob.textparserlib.parser.Placeholder;
+import dev.nurujjamanpollob.textparserlib.parser.RenderBuffers;
+import dev.nurujjamanpollob.textparserlib.parser.RenderResult;
+import dev.nurujjamanpollob.textparserlib.parser.RenderSession;
+import dev.nurujjamanpollob.textparserlib.parser.TemplateCache;
+import dev.nurujjamanpollob.textparserlib.parser.TextParser;
+import dev.nurujjamanpollob.textparserlib.parser.VariableBinding;
+import dev.nurujjamanpollob.textparserlib.parser.VariableResolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Test class to test the {@link CompiledTemplate#render(Map)} method, where the text is compiled once and rendered many times.
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @see CompiledTemplate for more details.
+ */
+public class CompiledTemplateTest {
+
+    /**
+     * Test to render the same compiled text with different identifier values.
+     */
+    @Test
+    public void testRenderManyTimes() throws TemplateException {
+        String text = "Hi, I am *(name)* and I am *(age)* years old.";
+
+        // Compile the text once
+        CompiledTemplate compiledTemplate = new Template("*(", ")*").compile(text);
+
+        Map<String, String> first = new HashMap<>();
+        first.put("name", "Nurujjaman Pollob");
+        first.put("age", "23");
+
+        Map<String, String> second = new HashMap<>();
+        second.put("name", "John Doe");
+        second.put("age", "30");
+
+        // Assert both render
+        Assertions.assertEquals("Hi, I am Nurujjaman Pollob and I am 23 years old.", compiledTemplate.render(first));
+        Assertions.assertEquals("Hi, I am John Doe and I am 30 years old.", compiledTemplate.render(second));
+        Assertions.assertEquals(2, compiledTemplate.getIdentifierCount());
+    }
+
+    /**
+     * Test optional identifiers, the default value is decoded once and used when there is no value passed.
+     */
+    @Test
+    public void testRenderWithOptionalIdentifier() throws TemplateException {
+        String text = "Hi, I am *(?name defVal=\"John Doe\")* and I am *(?age defVal=\"20\")* years old.*(end)*";
+
+        CompiledTemplate compiledTemplate = new CompiledTemplate(text, new Template("*(", ")*"));
+
+        Map<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("end", "!");
+
+        // Default values are used
+        Assertions.assertEquals("Hi, I am John Doe and I am 20 years old.!", compiledTemplate.render(keyValuePairs));
+
+        // Override the default value, that has a whitespace in it
+        keyValuePairs.put("name", "Nurujjaman Pollob");
+        Assertions.assertEquals("Hi, I am Nurujjaman Pollob and I am 20 years old.!", compiledTemplate.render(keyValuePairs));
+    }
+
+    /**
+     * Test render with values placed by slot, the identifiers with the same name share one slot.
+     */
+    @Test
+    public void testRenderWithVariableBinding() throws TemplateException {
+        CompiledTemplate compiledTemplate = new CompiledTemplate("*(name)*, *(greeting)* *(name)*!", new Template("*(", ")*"));
+
+        // Two distinct identifier names
+        Assertions.assertEquals(2, compiledTemplate.getSlotCount());
+        Assertions.assertEquals(-1, compiledTemplate.getSlot("age"));
+
+        VariableBinding binding = compiledTemplate.newBinding();
+        binding.putValue(compiledTemplate.getSlot("name"), "John");
+        binding.putVariableNameAndValue("greeting", "hello");
+        binding.putVariableNameAndValue("age", "23");
+
+        Assertions.assertEquals("John, hello John!", compiledTemplate.render(binding));
+
+        // A cleared binding has no value
+        binding.clear();
+        Assertions.assertThrows(TemplateException.class, () -> compiledTemplate.render(binding));
+
+        // A binding of another compiled template is not accepted
+        CompiledTemplate another = new CompiledTemplate("*(name)*", new Template("*(", ")*"));
+        Assertions.assertThrows(TemplateException.class, () -> compiledTemplate.render(another.newBinding()));
+    }
+
+    /**
+     * Test render without passing a mandatory identifier value.
+     */
+    @Test
+    public void testRenderWithMissingValue() throws TemplateException {
+        CompiledTemplate compiledTemplate = new CompiledTemplate("Hi, I am *(name)*", new Template("*(", ")*"));
+
+        TemplateException templateException = Assertions.assertThrows(TemplateException.class, () -> compiledTemplate.render(new HashMap<>()));
+
+        Assertions.assertEquals("Variable 'name' has no value passed. try to put value though constructor or putVariableNameAndValue method.", templateException.getMessage());
+    }
+
+    /**
+     * Test render straight into a writer, and nothing is written when a mandatory identifier has no value.
+     */
+    @Test
+    public void testRenderIntoWriter() throws TemplateException, IOException {
+        CompiledTemplate compiledTemplate = new CompiledTemplate("Hi, I am *(name)* and I am *(age)* years old.", new Template("*(", ")*"));
+
+        Map<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "Nurujjaman Pollob");
+
+        StringWriter writer = new StringWriter();
+
+        // age is missing, so nothing should be written
+        Assertions.assertThrows(TemplateException.class, () -> compiledTemplate.render(keyValuePairs, writer));
+        Assertions.assertEquals("", writer.toString());
+
+        keyValuePairs.put("age", "23");
+        compiledTemplate.render(keyValuePairs, writer);
+
+        Assertions.assertEquals("Hi, I am Nurujjaman Pollob and I am 23 years old.", writer.toString());
+    }
+
+    /**
+     * Test render a batch, the results keep the order of the batch and a failure is reported for its item only.
+     */
+    @Test
+    public void testRenderAll() throws TemplateException {
+        CompiledTemplate compiledTemplate = new CompiledTemplate("Hello *(name)*!", new Template("*(", ")*"));
+
+        List<Map<String, String>> batch = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Map<String, String> keyValuePairs = new HashMap<>();
+            // Every 100th item has no value
+            if (i % 100 != 0) {
+                keyValuePairs.put("name", "user" + i);
+            }
+            batch.add(keyValuePairs);
+        }
+
+        List<RenderResult> parallelResults = compiledTemplate.renderAll(batch);
+        List<RenderResult> executorResults = compiledTemplate.renderAll(batch, ParserExecutors.getVirtualThreadExecutor());
+
+        // Before Java 21, the tasks are queued on the bounded default pool instead of starting a thread for each task
+        if (!ParserExecutors.isVirtualThreadSupported()) {
+            Assertions.assertSame(ParserExecutors.getDefaultExecutor(), ParserExecutors.getVirtualThreadExecutor());
+        }
+
+        for (List<RenderResult> results : Arrays.asList(parallelResults, executorResults)) {
+
+            Assertions.assertEquals(batch.size(), results.size());
+
+            for (int i = 0; i < results.size(); i++) {
+                RenderResult result = results.get(i);
+
+                Assertions.assertEquals(i, result.getIndex());
+                if (i % 100 == 0) {
+                    Assertions.assertFalse(result.isSuccessful());
+                    Assertions.assertNotNull(result.getException());
+                } else {
+                    Assertions.assertEquals("Hello user" + i + "!", result.getResult());
+                }
+            }
+        }
+
+        // The stream form keeps the encounter order
+        Assertions.assertEquals(parallelResults.get(7).getResult(), compiledTemplate.renderAll(batch.parallelStream()).collect(Collectors.toList()).get(7).getResult());
+    }
+
+    /**
+     * Test render a batch, a runtime exception thrown while rendering an item is held in the result of that item only.
+     */
+    @Test
+    public void testRenderAllWithRuntimeException() throws TemplateException {
+        CompiledTemplate compiledTemplate = new CompiledTemplate("Hello *(name)*!", new Template("*(", ")*"));
+
+        IllegalStateException lookUpException = new IllegalStateException("Look up failed.");
+        Map<String, String> failingKeyValuePairs = new HashMap<String, String>() {
+            @Override
+            public String get(Object key) {
+                throw lookUpException;
+            }
+        };
+
+        List<Map<String, String>> batch = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            batch.add(i == 42 ? failingKeyValuePairs : Collections.singletonMap("name", "user" + i));
+        }
+
+        for (List<RenderResult> results : Arrays.asList(compiledTemplate.renderAll(batch), compiledTemplate.renderAll(batch, ParserExecutors.getDefaultExecutor()))) {
+
+            Assertions.assertEquals(batch.size(), results.size());
+
+            for (int i = 0; i < results.size(); i++) {
+                RenderResult result = results.get(i);
+
+                if (i == 42) {
+                    Assertions.assertFalse(result.isSuccessful());
+                    Assertions.assertSame(lookUpException, result.getException().getCause());
+                } else {
+                    Assertions.assertEquals("Hello user" + i + "!", result.getResult());
+                }
+            }
+        }
+    }
+
+    /**
+     * Test render a batch with an executor, a thread per task executor is given a task for each item, and a bounded pool a few parts.
+     */
+    @Test
+    public void testRenderAllTasksPerExecutor() throws TemplateException {
+        CompiledTemplate compiledTemplate = new CompiledTemplate("Hello *(name)*!", new Template("*(", ")*"));
+
+        List<Map<String, String>> batch = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            batch.add(Collections.singletonMap("name", "user" + i));
+        }
+
+        // A thread per task executor
+        AtomicInteger threadTasks = new AtomicInteger();
+        List<RenderResult> results = compiledTemplate.renderAll(batch, task -> {
+            threadTasks.incrementAndGet();
+            new Thread(task).start();
+        });
+        Assertions.assertEquals(100, threadTasks.get());
+        Assertions.assertEquals("Hello user99!", results.get(99).getResult());
+
+        // The part size passed by the caller
+        AtomicInteger partTasks = new AtomicInteger();
+        results = compiledTemplate.renderAll(batch, task -> {
+            partTasks.incrementAndGet();
+            task.run();
+        }, 30);
+        Assertions.assertEquals(4, partTasks.get());
+        Assertions.assertEquals("Hello user99!", results.get(99).getResult());
+
+        // A bounded pool renders the batch in parts
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            results = compiledTemplate.renderAll(batch, pool);
+            Assertions.assertEquals("Hello user0!", results.get(0).getResult());
+        } finally {
+            pool.shutdown();
+        }
+
+        // A task that is not accepted fails the batch
+        TemplateException templateException = Assertions.assertThrows(TemplateException.class, () -> compiledTemplate.renderAll(batch, pool));
+        Assertions.assertEquals("The executor did not accept the rendering task.", templateException.getMessage());
+        Assertions.assertThrows(TemplateException.class, () -> compiledTemplate.renderAll(batch, Runnable::run, 0));
+    }
+
+    /**
+     * Test compile a text, that has never closed an identifier.
+     */
+    @Test
+    public void testCompileWithNeverClosedIdentifier() throws TemplateException {
+        Template template = new Template("*(", ")*");
+
+        TemplateException templateException = Assertions.assertThrows(TemplateException.class, () -> template.compile("Hi, I am *(name)* and I am *(age years old.", true));
+
+        Assertions.assertEquals("End template not found.", templateException.getMessage());
+    }
+
+    /**
+     * Test parse a large text in parallel, gives the same result as the sequential parse.
+     */
+    @Test
+    public void testParseInParallel() throws TemplateException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; text.length() < 3 * 1024 * 1024; i++) {
+            text.append("Line ").append(i).append(": Hi *(name)*, you are *(?age defVal=\"20\")* years old.\n");
+        }
+
+        HashMap<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "John Doe");
+
+        TextParser textParser = new TextParser(text.toString(), new Template("*(", ")*"), keyValuePairs);
+
+        Assertions.assertEquals(textParser.parseSynchronously(), textParser.parseInParallel());
+
+        // The same error as the sequential parse
+        text.append("*(name *(age)*");
+        TemplateException templateException = Assertions.assertThrows(TemplateException.class, () -> new TextParser(text.toString(), new Template("*(", ")*"), keyValuePairs, true).parseInParallel());
+        Assertions.assertEquals("Syntax error. Found another start template, while iterating for end template. There is likely a syntax error in the text. Please fix that first.", templateException.getMessage());
+    }
+
+    /**
+     * Test render with a resolver, each value is computed only if it is used, and only once.
+     */
+    @Test
+    public void testRenderWithVariableResolver() throws TemplateException {
+        CompiledTemplate compiledTemplate = new CompiledTemplate("*(name)*, *(greeting)* *(name)*! *(?age defVal=\"20\")*", new Template("*(", ")*"));
+
+        AtomicInteger nameCalls = new AtomicInteger();
+        AtomicInteger unusedCalls = new AtomicInteger();
+
+        Map<String, Supplier<String>> suppliers = new HashMap<>();
+        suppliers.put("name", () -> "John" + nameCalls.incrementAndGet());
+        suppliers.put("greeting", () -> "Hello");
+        suppliers.put("unused", () -> "Unused" + unusedCalls.incrementAndGet());
+
+        Assertions.assertEquals("John1, Hello John1! 20", compiledTemplate.render(VariableResolver.fromSuppliers(suppliers)));
+        Assertions.assertEquals(1, nameCalls.get());
+        Assertions.assertEquals(0, unusedCalls.get());
+
+        // The resolver can fail the render
+        TemplateException templateException = Assertions.assertThrows(TemplateException.class, () -> compiledTemplate.render(name -> {
+            throw new TemplateException("Look up failed for " + name);
+        }));
+        Assertions.assertEquals("Look up failed for name", templateException.getMessage());
+
+        // A runtime exception of the resolver is held as the cause of a TemplateException
+        IllegalStateException lookupError = new IllegalStateException("Connection lost.");
+        templateException = Assertions.assertThrows(TemplateException.class, () -> compiledTemplate.render(name -> {
+            throw lookupError;
+        }));
+        Assertions.assertSame(lookupError, templateException.getCause());
+        Assertions.assertSame(lookupError, Assertions.assertThrows(TemplateException.class, () -> new TextParser("Hi *(name)*", new Template("*(", ")*")).parseSynchronously(name -> {
+            throw lookupError;
+        })).getCause());
+
+        // A missing mandatory value fails the render, before the optional values are resolved
+        List<String> resolvedNames = new ArrayList<>();
+        Assertions.assertThrows(TemplateException.class, () -> compiledTemplate.render(name -> {
+            resolvedNames.add(name);
+            return "greeting".equals(name) ? null : name;
+        }));
+        Assertions.assertEquals(Arrays.asList("name", "greeting"), resolvedNames);
+    }
+
+    /**
+     * Test render with an asynchronous resolver, all the look ups are started at once.
+     */
+    @Test
+    public void testRenderWithAsyncVariableResolver() throws Exception {
+        CompiledTemplate compiledTemplate = new CompiledTemplate("*(a)* *(b)* *(c)* *(a)*", new Template("*(", ")*"));
+
+        // Each look up waits until all the three look ups are started, so they can only complete if they run at the same time
+        CountDownLatch started = new CountDownLatch(3);
+        ExecutorService lookUpExecutor = Executors.newFixedThreadPool(3);
+
+        AsyncVariableResolver resolver = AsyncVariableResolver.fromResolver(name -> {
+            started.countDown();
+            try {
+                if (!started.await(10, TimeUnit.SECONDS)) {
+                    throw new TemplateException("The look ups did not run at the same time.");
+                }
+            } catch (InterruptedException e) {
+                throw new TemplateException("Interrupted.");
+            }
+            return name.toUpperCase();
+        }, lookUpExecutor);
+
+        try {
+            Assertions.assertEquals("A B C A", compiledTemplate.renderAsync(resolver).get(10, TimeUnit.SECONDS));
+        } finally {
+            lookUpExecutor.shutdown();
+        }
+
+        // A failed look up fails the render
+        CompletableFuture<String> failedLookup = new CompletableFuture<>();
+        failedLookup.completeExceptionally(new TemplateException("Look up failed."));
+
+        ExecutionException executionException = Assertions.assertThrows(ExecutionException.class, () -> compiledTemplate.renderAsync(name -> "b".equals(name) ? failedLookup : CompletableFuture.completedFuture(name)).get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals("Look up failed.", executionException.getCause().getMessage());
+    }
+
+    /**
+     * Test a render session, only the changed identifier is updated and the parsed text is the same as a full render.
+     */
+    @Test
+    public void testRenderSession() throws TemplateException, IOException {
+        CompiledTemplate compiledTemplate = new CompiledTemplate("*(name)* has *(?count defVal=\"no\")* messages, *(name)*!", new Template("*(", ")*"));
+
+        Map<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "John");
+
+        RenderSession session = compiledTemplate.newSession(keyValuePairs);
+        CharSequence view = session.asCharSequence();
+
+        Assertions.assertEquals("John has no messages, John!", session.getOutput());
+        Assertions.assertEquals(27, session.getOutputLength());
+
+        // Change one identifier, the view shows the change
+        session.putVariableNameAndValue("count", "12");
+        Assertions.assertEquals('1', view.charAt(9));
+        Assertions.assertEquals(9, session.getIdentifierOffset(1));
+        Assertions.assertEquals("John has 12 messages, John!", session.getOutput());
+
+        // Change the identifier used twice, the offset of the later identifiers moves
+        session.putVariableNameAndValue("name", "Nurujjaman");
+        Assertions.assertEquals(15, session.getIdentifierOffset(1));
+        Assertions.assertEquals('N', view.charAt(28));
+
+        keyValuePairs.put("name", "Nurujjaman");
+        keyValuePairs.put("count", "12");
+        Assertions.assertEquals(compiledTemplate.render(keyValuePairs), view.toString());
+
+        // Back to the default value of an optional identifier, and a name the text do not use is ignored
+        session.putVariableNameAndValue("count", null);
+        session.putVariableNameAndValue("age", "23");
+
+        StringWriter writer = new StringWriter();
+        session.writeTo(writer);
+        Assertions.assertEquals("Nurujjaman has no messages, Nurujjaman!", writer.toString());
+
+        // A mandatory identifier cannot be removed
+        Assertions.assertThrows(TemplateException.class, () -> session.putVariableNameAndValue("name", null));
+        Assertions.assertEquals("Nurujjaman", session.getValue("name"));
+
+        // A session cannot be created without a mandatory value
+        Assertions.assertThrows(TemplateException.class, () -> compiledTemplate.newSession(new HashMap<>()));
+    }
+
+    /**
+     * Test to get the placeholders of a text without rendering it, with more than one template.
+     */
+    @Test
+    public void testGetPlaceholders() throws TemplateException {
+        String text = "Hi *(name)*, you have ${?count defVal=\"no\"} messages. *(name)*";
+
+        List<Template> templates = Arrays.asList(new Template("*(", ")*"), new Template("${", "}"));
+        CompiledTemplate compiledTemplate = new CompiledTemplate(text, templates, true);
+
+        List<Placeholder> placeholders = compiledTemplate.getPlaceholders();
+        Assertions.assertEquals(3, placeholders.size());
+
+        Placeholder count = placeholders.get(1);
+        Assertions.assertEquals("count", count.getKeyName());
+        Assertions.assertTrue(count.isOptional());
+        Assertions.assertEquals("no", count.getOptionalValue());
+        Assertions.assertSame(templates.get(1), count.getTemplate());
+        Assertions.assertEquals("${?count defVal=\"no\"}", text.substring(count.getStartIndex(), count.getEndIndex()));
+
+        // The same identifier name share one slot
+        Assertions.assertEquals(placeholders.get(0).getSlot(), placeholders.get(2).getSlot());
+        Assertions.assertSame(templates.get(0), placeholders.get(2).getTemplate());
+
+        // The placeholders are created once
+        Assertions.assertSame(placeholders, compiledTemplate.getPlaceholders());
+
+        Assertions.assertEquals(Arrays.asList("name", "count"), compiledTemplate.getVariableNames());
+        Assertions.assertEquals(Arrays.asList("name"), compiledTemplate.getMandatoryVariableNames());
+
+        // Without the default cache, the text is compiled every time
+        Template template = new Template("*(", ")*");
+        Assertions.assertNull(TemplateCache.getDefault());
+        Assertions.assertEquals(template.getPlaceholders("Hi *(name)*").toString(), template.getPlaceholders("Hi *(name)*").toString());
+
+        // Through the cache, the same placeholders are returned
+        TemplateCache.setDefault(new TemplateCache(TemplateCache.DEFAULT_MAX_ENTRIES, TemplateCache.DEFAULT_MAX_WEIGHT));
+        try {
+            Assertions.assertSame(template.getPlaceholders("Hi *(name)*"), template.getPlaceholders("Hi *(name)*"));
+        } finally {
+            TemplateCache.setDefault(null);
+        }
+    }
+
+    /**
+     * Test to render with reused buffers, a buffer that is given back is taken again by the next render.
+     */
+    @Test
+    public void testRenderWithRenderBuffers() throws TemplateException {
+        String text = "Hi, I am *(name)* and I am *(?age defVal=\"20\")* years old.";
+        Template template = new Template("*(", ")*");
+        CompiledTemplate compiledTemplate = new CompiledTemplate(text, template);
+
+        Map<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "Nurujjaman Pollob");
+        String expected = compiledTemplate.render(keyValuePairs);
+
+        for (RenderBuffers buffers : Arrays.asList(RenderBuffers.threadLocal(1024), RenderBuffers.pooled(2, 1024))) {
+
+            // A buffer given back is empty, and is reused
+            StringBuilder buffer = buffers.acquire(16);
+            buffer.append("used");
+            buffers.release(buffer);
+            Assertions.assertSame(buffer, buffers.acquire(64));
+            Assertions.assertEquals(0, buffer.length());
+            buffers.release(buffer);
+
+            // A buffer larger than the maximum retained capacity is not kept
+            StringBuilder large = buffers.acquire(4096);
+            buffers.release(large);
+            Assertions.assertNotSame(large, buffers.acquire(16));
+
+            // The buffers are passed with each render
+            Assertions.assertEquals(expected, compiledTemplate.render(keyValuePairs, buffers));
+            Assertions.assertEquals(expected, compiledTemplate.render(VariableResolver.fromMap(keyValuePairs), buffers));
+            Assertions.assertThrows(TemplateException.class, () -> compiledTemplate.render(new HashMap<>(), buffers));
+
+            // The buffer is given back after each render, so it is taken again
+            StringBuilder reused = buffers.acquire(16);
+            buffers.release(reused);
+            compiledTemplate.render(keyValuePairs, buffers);
+            Assertions.assertSame(reused, buffers.acquire(16));
+            buffers.release(reused);
+
+            // A parser has a setting of its own
+            TextParser textParser = new TextParser(text, template, keyValuePairs);
+            textParser.setRenderBuffers(buffers);
+            Assertions.assertEquals(expected, textParser.parseSynchronously());
+        }
+
+        Assertions.assertThrows(TemplateException.class, () -> RenderBuffers.pooled(0, 1024));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlibtestpackage;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.escape.Escapers;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.CompiledTemplate;
+import dev.nurujjamanpollob.textparserlib.parser.StreamingTextParser;
+import dev.nurujjamanpollob.textparserlib.parser.TemplateCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.HashMap;
+
+/**
+ * Test class to test the escapers, that escape the values while the text is parsed.
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @see Escapers for more details.
+ */
+public class EscaperTest {
+
+    /**
+     * Test the built-in escapers.
+     */
+    @Test
+    public void testBuiltInEscapers() {
+        Assertions.assertEquals("&lt;a href=&quot;x&quot;&gt;Tom &amp; Jerry&#39;s&lt;/a&gt;", Escapers.HTML.escape("<a href=\"x\">Tom & Jerry's</a>"));
+        Assertions.assertEquals("say \\\"hi\\\"\\n\\\\ \\u0001", Escapers.JSON.escape("say \"hi\"\n\\ \u0001"));
+        Assertions.assertEquals("\"a, \"\"b\"\"\"", Escapers.CSV.escape("a, \"b\""));
+
+        // A value that has nothing to escape is not copied
+        String value = "Nurujjaman Pollob";
+        Assertions.assertSame(value, Escapers.HTML.escape(value));
+        Assertions.assertSame(value, Escapers.CSV.escape(value));
+    }
+
+    /**
+     * Test the escaper of an identifier, and the escaper of a template that one identifier turns off.
+     */
+    @Test
+    public void testEscapeWhileParsing() throws TemplateException, IOException {
+        HashMap<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "Tom & Jerry");
+        keyValuePairs.put("body", "<b>hi</b>");
+
+        // Escaper of one identifier
+        Template template = new Template("*(", ")*", Escapers.RAW);
+        Assertions.assertEquals("Tom &amp; Jerry: <b>hi</b>", template.parseSynchronously("*(name | html)*: *(body)*", keyValuePairs));
+
+        // Escaper of the template, turned off for one identifier
+        Template htmlTemplate = new Template("*(", ")*", Escapers.HTML);
+        String text = "*(name)*: *(body | raw)* *(?title defVal=\"<none>\")*";
+        Assertions.assertEquals("Tom &amp; Jerry: <b>hi</b> &lt;none&gt;", htmlTemplate.compile(text).render(keyValuePairs));
+
+        // The same text with another escaper is not taken from the cache
+        Assertions.assertEquals("Tom & Jerry", template.parseSynchronously("*(name)*", keyValuePairs));
+        Assertions.assertEquals("Tom &amp; Jerry", htmlTemplate.parseSynchronously("*(name)*", keyValuePairs));
+
+        // Streaming parser escapes the values too
+        StringWriter writer = new StringWriter();
+        new StreamingTextParser(template, keyValuePairs).parse(new StringReader("[*(name | html)*]"), writer);
+        Assertions.assertEquals("[Tom &amp; Jerry]", writer.toString());
+
+        // A | that is not followed by an escaper name is a part of the identifier name
+        CompiledTemplate compiledTemplate = template.compile("*(a|b)*");
+        Assertions.assertEquals("a|b", compiledTemplate.getPlaceholders().get(0).getKeyName());
+    }
+
+    /**
+     * Test that a template made without an escaper looks up a name with a | character as it is, as in the version 2.0.
+     */
+    @Test
+    public void testEscaperSuffixIsOptIn() throws TemplateException, IOException {
+        HashMap<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("a|html", "<b>");
+        keyValuePairs.put("a|b", "Tom & Jerry");
+        keyValuePairs.put("a", "<i>");
+
+        Template template = new Template("*(", ")*");
+        Assertions.assertFalse(template.isEscaperSuffixEnabled());
+        Assertions.assertEquals("<b> Tom & Jerry", template.parseSynchronously("*(a|html)* *(a|b)*", keyValuePairs));
+        Assertions.assertEquals("a|html", template.compile("*(a|html)*").getPlaceholders().get(0).getKeyName());
+
+        StringWriter writer = new StringWriter();
+        new StreamingTextParser(template, keyValuePairs).parse(new StringReader("*(a|html)*"), writer);
+        Assertions.assertEquals("<b>", writer.toString());
+
+        // A template made with an escaper reads the suffix, and still looks up a name with an unknown suffix unchanged
+        Template htmlTemplate = new Template("*(", ")*", Escapers.HTML);
+        Assertions.assertTrue(htmlTemplate.isEscaperSuffixEnabled());
+        Assertions.assertEquals("&lt;i&gt; Tom &amp; Jerry", htmlTemplate.parseSynchronously("*(a|html)* *(a|b)*", keyValuePairs));
+        Assertions.assertEquals("a|b", htmlTemplate.compile("*(a|b)*").getPlaceholders().get(0).getKeyName());
+
+        // The same text is another cache entry for a template that reads the suffix
+        TemplateCache templateCache = new TemplateCache(10, 1000);
+        Assertions.assertEquals("<b>", templateCache.get("*(a|html)*", template, false).render(keyValuePairs));
+        Assertions.assertEquals("&lt;i&gt;", templateCache.get("*(a|html)*", new Template("*(", ")*", null), false).render(keyValuePairs));
+        Assertions.assertEquals(2, templateCache.size());
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlibtestpackage;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.event.ParseMetrics;
+import dev.nurujjamanpollob.textparserlib.event.ParseStatistics;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.metrics.JmxParseMetrics;
+import dev.nurujjamanpollob.textparserlib.parser.TextParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class to test the {@link ParseMetrics} reported by {@link TextParser}, and the JMX MBean that aggregates them.
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @see JmxParseMetrics for more details.
+ */
+public class ParseMetricsTest {
+
+    /**
+     * Test to report the metrics of a successful and a failed parse.
+     */
+    @Test
+    public void testReportMetrics() throws Exception {
+        List<ParseStatistics> finished = new ArrayList<>();
+        List<ParseStatistics> failed = new ArrayList<>();
+
+        TextParser.setParseMetrics(new ParseMetrics() {
+            @Override
+            public void onParseFinished(ParseStatistics statistics) {
+                finished.add(statistics);
+            }
+
+            @Override
+            public void onParseFailed(ParseStatistics statistics, TemplateException templateException) {
+                failed.add(statistics);
+            }
+        });
+
+        try {
+            String text = "Hi, I am *(name)* and I am *(?age defVal=\"20\")* years old, *(name)*.";
+            HashMap<String, String> keyValuePairs = new HashMap<>();
+            keyValuePairs.put("name", "John");
+
+            String parsedText = new TextParser(text, new Template("*(", ")*"), keyValuePairs).parseSynchronously();
+
+            Assertions.assertEquals(1, finished.size());
+            ParseStatistics statistics = finished.get(0);
+            Assertions.assertEquals(text.length(), statistics.getInputLength());
+            Assertions.assertEquals(parsedText.length(), statistics.getOutputLength());
+            Assertions.assertEquals(3, statistics.getPlaceholderCount());
+            Assertions.assertEquals(0, statistics.getMissingValueCount());
+            Assertions.assertEquals(1, statistics.getDefaultValueCount());
+            Assertions.assertEquals(0L, statistics.getQueueWaitNanos());
+
+            // Both name are missing
+            Assertions.assertThrows(TemplateException.class, () -> new TextParser(text, new Template("*(", ")*"), new HashMap<>()).parseSynchronously());
+
+            Assertions.assertEquals(1, failed.size());
+            Assertions.assertEquals(2, failed.get(0).getMissingValueCount());
+            Assertions.assertEquals(-1, failed.get(0).getOutputLength());
+            Assertions.assertEquals(1, failed.get(0).getDefaultValueCount());
+
+            // The parallel parse counts the same way
+            new TextParser(text, new Template("*(", ")*"), keyValuePairs).parseInParallel();
+
+            Assertions.assertEquals(2, finished.size());
+            Assertions.assertEquals(0, finished.get(1).getMissingValueCount());
+            Assertions.assertEquals(1, finished.get(1).getDefaultValueCount());
+        } finally {
+            TextParser.setParseMetrics(null);
+        }
+    }
+
+    /**
+     * Test to aggregate the metrics of asynchronous parses into the MBean.
+     */
+    @Test
+    public void testJmxParseMetrics() throws Exception {
+        JmxParseMetrics metrics = JmxParseMetrics.register("dev.nurujjamanpollob.textparserlib:type=ParseMetrics,name=test");
+        TextParser.setParseMetrics(metrics);
+
+        try {
+            HashMap<String, String> keyValuePairs = new HashMap<>();
+            keyValuePairs.put("name", "John");
+
+            for (int i = 0; i < 10; i++) {
+                new TextParser("Hi *(name)*", new Template("*(", ")*"), keyValuePairs).parseAsync().get(10, TimeUnit.SECONDS);
+            }
+
+            ObjectName objectName = new ObjectName("dev.nurujjamanpollob.textparserlib:type=ParseMetrics,name=test");
+            Assertions.assertEquals(10L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "ParseCount"));
+            Assertions.assertEquals(70L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "TotalOutputLength"));
+            Assertions.assertTrue(metrics.getMaxDurationMicros() > 0);
+
+            ManagementFactory.getPlatformMBeanServer().invoke(objectName, "reset", null, null);
+            Assertions.assertEquals(0L, metrics.getParseCount());
+
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } finally {
+            TextParser.setParseMetrics(null);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlibtestpackage;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.CompiledTemplate;
+import dev.nurujjamanpollob.textparserlib.parser.RenderProcessor;
+import dev.nurujjamanpollob.textparserlib.parser.RenderResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test class to test the {@link RenderProcessor} class, that renders a stream of key-value pairs with backpressure.
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @see RenderProcessor for more details.
+ */
+public class RenderProcessorTest {
+
+    /**
+     * Test to render a stream, the results are in order and a failed render do not stop the stream.
+     */
+    @Test
+    public void testRenderStreamInOrder() throws TemplateException, InterruptedException {
+        CompiledTemplate compiledTemplate = new Template("*(", ")*").compile("Row *(number)*");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            RenderProcessor processor = new RenderProcessor(compiledTemplate, executor, 4);
+            SubmissionPublisher<Map<String, String>> publisher = new SubmissionPublisher<>(executor, 8);
+            publisher.subscribe(processor);
+
+            List<String> results = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch completed = new CountDownLatch(1);
+
+            // Request one result at a time, so the processor must wait for the subscriber.
+            processor.subscribe(new Flow.Subscriber<RenderResult>() {
+
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(RenderResult item) {
+                    results.add(item.isSuccessful() ? item.getResult() : item.getException().getMessage());
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    results.add(throwable.getMessage());
+                    completed.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+
+            for (int i = 0; i < 100; i++) {
+                Map<String, String> keyValuePairs = new HashMap<>();
+                if (i != 50) {
+                    keyValuePairs.put("number", String.valueOf(i));
+                }
+                publisher.submit(keyValuePairs);
+            }
+            publisher.close();
+
+            Assertions.assertTrue(completed.await(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(100, results.size());
+            Assertions.assertEquals("Row 0", results.get(0));
+            Assertions.assertEquals("Variable 'number' has no value passed. try to put value though constructor or putVariableNameAndValue method.", results.get(50));
+            Assertions.assertEquals("Row 99", results.get(99));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test the processor accepts only one subscriber, and the maximum concurrency must be positive.
+     */
+    @Test
+    public void testOnlyOneSubscriber() throws TemplateException {
+        CompiledTemplate compiledTemplate = new Template("*(", ")*").compile("Row *(number)*");
+        RenderProcessor processor = new RenderProcessor(compiledTemplate, 2);
+
+        processor.subscribe(new NoOpSubscriber(new AtomicReference<>()));
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        processor.subscribe(new NoOpSubscriber(error));
+        Assertions.assertEquals("The render processor accepts only one subscriber.", error.get().getMessage());
+
+        Assertions.assertThrows(TemplateException.class, () -> new RenderProcessor(compiledTemplate, 0));
+    }
+
+    /**
+     * Test the processor requests at most maxConcurrency key-value pairs more than it gave to the subscriber, and gives nothing before the subscriber requests.
+     */
+    @Test
+    public void testBackpressure() throws TemplateException {
+        CompiledTemplate compiledTemplate = new Template("*(", ")*").compile("Row *(number)*");
+        final int maxConcurrency = 4;
+
+        // Render in the calling thread, so every result is ready as soon as its key-value pairs are sent
+        RenderProcessor processor = new RenderProcessor(compiledTemplate, Runnable::run, maxConcurrency);
+        List<String> delivered = new ArrayList<>();
+        ManualPublisher publisher = new ManualPublisher(delivered);
+        publisher.subscribe(processor);
+
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        AtomicBoolean completed = new AtomicBoolean();
+
+        processor.subscribe(new Flow.Subscriber<RenderResult>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(RenderResult item) {
+                delivered.add(item.getResult());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                delivered.add(throwable.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+                completed.set(true);
+            }
+        });
+
+        // The subscriber holds its demand at 0, so only maxConcurrency key-value pairs are requested
+        Assertions.assertEquals(maxConcurrency, publisher.requestedSum);
+        publisher.sendRequested();
+        publisher.sendRequested();
+
+        Assertions.assertEquals(maxConcurrency, publisher.sent);
+        Assertions.assertEquals(maxConcurrency, publisher.requestedSum);
+        Assertions.assertTrue(delivered.isEmpty());
+
+        // Each result given lets one more key-value pairs in
+        for (int i = 1; i <= 20; i++) {
+            subscription.get().request(1);
+
+            Assertions.assertEquals(i, delivered.size());
+            Assertions.assertEquals("Row " + (i - 1), delivered.get(i - 1));
+            Assertions.assertTrue(publisher.requestedSum <= delivered.size() + maxConcurrency);
+
+            publisher.sendRequested();
+            Assertions.assertEquals(i, delivered.size());
+        }
+
+        Assertions.assertTrue(publisher.maxAheadOfDelivered <= maxConcurrency);
+
+        // The results left are given when requested, then the stream is completed
+        publisher.complete();
+        Assertions.assertFalse(completed.get());
+        subscription.get().request(Long.MAX_VALUE);
+
+        Assertions.assertEquals(publisher.sent, delivered.size());
+        Assertions.assertEquals("Row " + (publisher.sent - 1), delivered.get(delivered.size() - 1));
+        Assertions.assertTrue(completed.get());
+    }
+
+    /**
+     * Publisher that sends the key-value pairs only when the test asks, and records how many are requested.
+     * The requests are checked when they are made, so the results given to the subscriber are counted at that time.
+     */
+    private static final class ManualPublisher implements Flow.Publisher<Map<String, String>> {
+
+        private final List<String> delivered;
+        private Flow.Subscriber<? super Map<String, String>> subscriber;
+        private long requestedSum;
+        private long sent;
+        private long maxAheadOfDelivered;
+
+        ManualPublisher(List<String> delivered) {
+            this.delivered = delivered;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Map<String, String>> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requestedSum += n;
+                    maxAheadOfDelivered = Math.max(maxAheadOfDelivered, requestedSum - delivered.size());
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+
+        /**
+         * Send all the key-value pairs, that are requested and not sent yet.
+         */
+        void sendRequested() {
+            while (sent < requestedSum) {
+                subscriber.onNext(Collections.singletonMap("number", String.valueOf(sent++)));
+            }
+        }
+
+        void complete() {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Subscriber that only keeps the error.
+     */
+    private static final class NoOpSubscriber implements Flow.Subscriber<RenderResult> {
+
+        private final AtomicReference<Throwable> error;
+
+        NoOpSubscriber(AtomicReference<Throwable> error) {
+            this.error = error;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+        }
+
+        @Override
+        public void onNext(RenderResult item) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
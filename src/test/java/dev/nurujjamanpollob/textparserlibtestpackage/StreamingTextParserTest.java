@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlibtestpackage;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.StreamingTextParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test class to test the {@link StreamingTextParser}, where the text is read through a fixed size buffer.
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @see StreamingTextParser for more details.
+ */
+public class StreamingTextParserTest {
+
+    /**
+     * Test parse with every buffer size from the smallest one, so the templates and defVal are split between two reads at every possible point.
+     */
+    @Test
+    public void testParseWithSplitTemplates() throws TemplateException, IOException {
+        String text = "Hi, I am *(name)* and I am *(?age defVal=\"2*\"0\")* years old. I am a *(occupation)*.";
+        String matchTo = "Hi, I am Nurujjaman Pollob and I am 2\"0 years old. I am a Student.";
+
+        Map<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "Nurujjaman Pollob");
+        keyValuePairs.put("occupation", "Student");
+
+        for (int bufferSize = 1; bufferSize <= text.length() + 1; bufferSize++) {
+
+            StringWriter writer = new StringWriter();
+            new StreamingTextParser(new Template("*(", ")*"), keyValuePairs, true, bufferSize).parse(new StringReader(text), writer);
+
+            Assertions.assertEquals(matchTo, writer.toString(), "Buffer size " + bufferSize);
+        }
+    }
+
+    /**
+     * Test parse from a byte channel into another byte channel.
+     */
+    @Test
+    public void testParseChannel() throws TemplateException, IOException {
+        String text = "Ich hei\u00dfe *(name)* und bin *(age)* Jahre alt.";
+
+        Map<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "J\u00fcrgen");
+        keyValuePairs.put("age", "23");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new StreamingTextParser(new Template("*(", ")*"), keyValuePairs, false, 4).parse(
+                Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))),
+                Channels.newChannel(out),
+                StandardCharsets.UTF_8);
+
+        Assertions.assertEquals("Ich hei\u00dfe J\u00fcrgen und bin 23 Jahre alt.", out.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test parse a text, that has never closed an identifier.
+     */
+    @Test
+    public void testParseWithNeverClosedIdentifier() throws TemplateException {
+        StreamingTextParser parser = new StreamingTextParser(new Template("*(", ")*"), new HashMap<>(), false, 4);
+
+        TemplateException templateException = Assertions.assertThrows(TemplateException.class, () -> parser.parse(new StringReader("Hi, I am *(name"), new StringWriter()));
+
+        Assertions.assertEquals("End template not found.", templateException.getMessage());
+    }
+}
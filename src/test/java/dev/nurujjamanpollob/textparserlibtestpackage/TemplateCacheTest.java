@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlibtestpackage;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.CompiledTemplate;
+import dev.nurujjamanpollob.textparserlib.parser.TemplateCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+/**
+ * Test class to test the {@link TemplateCache} class, that caches the compiled texts.
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @see TemplateCache for more details.
+ */
+public class TemplateCacheTest {
+
+    /**
+     * Test to look up the same text twice, the second look up is a hit.
+     */
+    @Test
+    public void testHitAndMiss() throws TemplateException {
+        TemplateCache templateCache = new TemplateCache(10, 1000);
+        Template template = new Template("*(", ")*");
+
+        CompiledTemplate first = templateCache.get("Hi *(name)*", template, false);
+        CompiledTemplate second = templateCache.get("Hi *(name)*", new Template("*(", ")*"), false);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1L, templateCache.getHitCount());
+        Assertions.assertEquals(1L, templateCache.getMissCount());
+
+        // Other template or syntax checking flag is another entry
+        Assertions.assertNotSame(first, templateCache.get("Hi *(name)*", new Template("*(", ")"), false));
+        Assertions.assertNotSame(first, templateCache.get("Hi *(name)*", template, true));
+        Assertions.assertEquals(3, templateCache.size());
+
+        // A text that is not a String is looked up by its content, and the cached entry do not change with it
+        StringBuilder text = new StringBuilder("Hi *(name)*");
+        Assertions.assertSame(first, templateCache.get(text, template, false));
+
+        text.setLength(0);
+        text.append("*(other)*");
+        CompiledTemplate other = templateCache.get(text, template, false);
+        text.append('!');
+        Assertions.assertSame(other, templateCache.get("*(other)*", template, false));
+        Assertions.assertEquals("*(other)*", other.getText().toString());
+    }
+
+    /**
+     * Test to evict the least recently used entries, when the number of entries or the weight is exceeded.
+     */
+    @Test
+    public void testEviction() throws TemplateException {
+        TemplateCache templateCache = new TemplateCache(2, 20);
+        Template template = new Template("*(", ")*");
+
+        CompiledTemplate a = templateCache.get("*(a)*", template, false);
+        templateCache.get("*(b)*", template, false);
+
+        // Use a, so b is the least recently used
+        templateCache.get("*(a)*", template, false);
+        templateCache.get("*(c)*", template, false);
+
+        Assertions.assertEquals(2, templateCache.size());
+        Assertions.assertEquals(1L, templateCache.getEvictionCount());
+        Assertions.assertSame(a, templateCache.get("*(a)*", template, false));
+
+        // The max weight is 20, so both a and c are evicted for a text of 16 characters
+        templateCache.get("*(dddddddddddd)*", template, false);
+        Assertions.assertEquals(1, templateCache.size());
+        Assertions.assertEquals(16L, templateCache.getWeight());
+
+        // A text heavier than the max weight is never cached
+        templateCache.get("*(eeeeeeeeeeeeeeeeeeeeeeeeeeeeeee)*", template, false);
+        Assertions.assertEquals(1, templateCache.size());
+
+        // and it is compiled as it is, without copying it into a String
+        StringBuilder heavyText = new StringBuilder("*(eeeeeeeeeeeeeeeeeeeeeeeeeeeeeee)*");
+        Assertions.assertSame(heavyText, templateCache.get(heavyText, template, false).getText());
+        Assertions.assertEquals(1, templateCache.size());
+
+        Assertions.assertThrows(TemplateException.class, () -> new TemplateCache(0, 10));
+    }
+
+    /**
+     * Test to parse the same text twice with {@link Template#parseSynchronously(CharSequence, HashMap)}, that is compiled through the default cache once it is set.
+     */
+    @Test
+    public void testParseThroughDefaultCache() throws TemplateException {
+        TemplateCache templateCache = new TemplateCache(10, 1000);
+        TemplateCache defaultCache = TemplateCache.getDefault();
+
+        // There is no default cache, until it is set
+        Assertions.assertNull(defaultCache);
+        Assertions.assertEquals("Hi John", new Template("*(", ")*").parseSynchronously("Hi *(name)*", new HashMap<>(Collections.singletonMap("name", "John"))));
+
+        TemplateCache.setDefault(templateCache);
+
+        try {
+            Template template = new Template("*(", ")*");
+            HashMap<String, String> keyValuePairs = new HashMap<>();
+
+            keyValuePairs.put("name", "John");
+            Assertions.assertTrue(template.parseSynchronously("Hi *(name)*", keyValuePairs).startsWith("Hi John"));
+
+            keyValuePairs.put("name", "Jane");
+            Assertions.assertTrue(template.parseSynchronously("Hi *(name)*", keyValuePairs).startsWith("Hi Jane"));
+
+            Assertions.assertEquals(1L, templateCache.getMissCount());
+            Assertions.assertEquals(1L, templateCache.getHitCount());
+        } finally {
+            TemplateCache.setDefault(defaultCache);
+        }
+    }
+}
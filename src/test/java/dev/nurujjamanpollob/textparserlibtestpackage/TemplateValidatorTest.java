@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlibtestpackage;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.CompiledTemplate;
+import dev.nurujjamanpollob.textparserlib.parser.TemplateSyntaxError;
+import dev.nurujjamanpollob.textparserlib.parser.TemplateValidator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Test class to test the {@link TemplateValidator} class, that reports every syntax error of a text.
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @see TemplateValidator for more details.
+ */
+public class TemplateValidatorTest {
+
+    /**
+     * Test to find every syntax error of a text, with the line and column of each error.
+     */
+    @Test
+    public void testValidateReportsAllErrors() throws TemplateException {
+        String text = "Hi *(name)*,\n"
+                + "you have *(?count)* messages.\r\n"
+                + "*(first *(second)*\n"
+                + "Bye *(name";
+
+        List<TemplateSyntaxError> errors = new TemplateValidator(new Template("*(", ")*")).validate(text);
+        Assertions.assertEquals(3, errors.size());
+
+        TemplateSyntaxError malformed = errors.get(0);
+        Assertions.assertEquals(TemplateSyntaxError.Type.MALFORMED_IDENTIFIER, malformed.getType());
+        Assertions.assertEquals("Def value not found, you can define one using defVal=\"defValue\"", malformed.getMessage());
+        Assertions.assertEquals(2, malformed.getLineNumber());
+        Assertions.assertEquals(10, malformed.getColumnNumber());
+
+        TemplateSyntaxError nested = errors.get(1);
+        Assertions.assertEquals(TemplateSyntaxError.Type.NESTED_START_TEMPLATE, nested.getType());
+        Assertions.assertEquals(3, nested.getLineNumber());
+        Assertions.assertEquals(9, nested.getColumnNumber());
+
+        TemplateSyntaxError unclosed = errors.get(2);
+        Assertions.assertEquals(TemplateSyntaxError.Type.UNCLOSED_IDENTIFIER, unclosed.getType());
+        Assertions.assertEquals("End template not found.", unclosed.getMessage());
+        Assertions.assertEquals(4, unclosed.getLineNumber());
+        Assertions.assertEquals(5, unclosed.getColumnNumber());
+
+        // The first error is the error the parser throws
+        TemplateException templateException = Assertions.assertThrows(TemplateException.class, () -> new CompiledTemplate(text, new Template("*(", ")*"), true));
+        Assertions.assertEquals(malformed.getMessage(), templateException.getMessage());
+    }
+
+    /**
+     * Test to report a defVal that is not closed, the parser writes null in place of it.
+     */
+    @Test
+    public void testValidateReportsUnclosedDefValue() throws TemplateException {
+        TemplateValidator validator = new TemplateValidator(new Template("*(", ")*"));
+        String text = "Hi *(name)*,\n"
+                + "you are *(?age defVal=\"20)* years old.";
+
+        List<TemplateSyntaxError> errors = validator.validate(text);
+        Assertions.assertEquals(1, errors.size());
+
+        TemplateSyntaxError unclosedDefValue = errors.get(0);
+        Assertions.assertEquals(TemplateSyntaxError.Type.UNCLOSED_DEF_VALUE, unclosedDefValue.getType());
+        Assertions.assertEquals(2, unclosedDefValue.getLineNumber());
+        Assertions.assertEquals(16, unclosedDefValue.getColumnNumber());
+
+        // The parser do not throw for it
+        HashMap<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "John");
+        Assertions.assertEquals("Hi John,\nyou are null years old.", new Template("*(", ")*").compile(text, true).render(keyValuePairs));
+
+        // A closed defVal, and one with an escaped double quote, are valid
+        Assertions.assertTrue(validator.isValid("*(?age defVal=\"20\")* *(?quote defVal=\"say *\"hi*\"\")*"));
+        Assertions.assertThrows(TemplateException.class, () -> validator.compile(text));
+    }
+
+    /**
+     * Test to compile a validated text, it is rendered the same as a text compiled with basic syntax checking.
+     */
+    @Test
+    public void testCompileValidatedText() throws TemplateException {
+        TemplateValidator validator = new TemplateValidator(new Template("*(", ")*"));
+        String text = "Hi, I am *(name)* and I am *(?age defVal=\"20\")* years old.";
+
+        Assertions.assertTrue(validator.isValid(text));
+
+        HashMap<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "Nurujjaman Pollob");
+
+        Assertions.assertEquals(new Template("*(", ")*").compile(text, true).render(keyValuePairs), validator.compile(text).render(keyValuePairs));
+
+        // A text with syntax error is not compiled
+        TemplateException templateException = Assertions.assertThrows(TemplateException.class, () -> validator.compile("Hi *(name"));
+        Assertions.assertEquals("End template not found. At line 1, column 4. The text has 1 syntax error(s).", templateException.getMessage());
+    }
+}
@@ -63,10 +63,19 @@ package dev.nurujjamanpollob.textparserlibtestpackage;
 import dev.nurujjamanpollob.textparserlib.Template;
 import dev.nurujjamanpollob.textparserlib.event.ParseEventListener;
 import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.ParserExecutors;
 import dev.nurujjamanpollob.textparserlib.parser.TextParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Class to test the method reference of the {@link dev.nurujjamanpollob.textparserlib.parser.TextParser#parseAsynchronously(ParseEventListener)}
  * <p>
@@ -387,4 +396,78 @@ public class TextParserAsynchronousTest {
         });
 
     }
+
+    /**
+     * Method to test the asynchronous method with an executor of our own, here the executor run the task in the calling thread.
+     */
+    @Test
+    public void testParseAsynchronouslyWithExecutor() throws TemplateException {
+        String textToParse = "Hi, I am *(name)* and I am *(age)* years old.";
+
+        // Define template instance
+        Template template = new Template("*(", ")*");
+
+        // Create a NEW instance of TextParser
+        TextParser textParser = new TextParser(textToParse, template);
+
+        // put identifier with their values
+        textParser.putVariableNameAndValue("name", "Nurujjaman Pollob");
+        textParser.putVariableNameAndValue("age", "23");
+
+        AtomicReference<String> parsedText = new AtomicReference<>();
+
+        // Run the task in this thread, so the result is ready when the method returns
+        Executor callingThreadExecutor = Runnable::run;
+
+        textParser.parseAsynchronously(new ParseEventListener() {
+
+            @Override
+            public void onParseFinished(String result) {
+                parsedText.set(result);
+            }
+        }, callingThreadExecutor);
+
+        Assertions.assertTrue(parsedText.get().contains("Hi, I am Nurujjaman Pollob and I am 23 years old."));
+
+        // Null executor is not accepted
+        TemplateException templateException = Assertions.assertThrows(TemplateException.class, () -> textParser.parseAsynchronously(new ParseEventListener() {}, null));
+        Assertions.assertEquals("The executor cannot be null.", templateException.getMessage());
+    }
+
+    /**
+     * Method to test the future based asynchronous method, the result can be joined and timed out.
+     */
+    @Test
+    public void testParseAsync() throws TemplateException, InterruptedException, ExecutionException, TimeoutException {
+
+        // Define template instance
+        Template template = new Template("*(", ")*");
+
+        TextParser textParser = new TextParser("Hi, I am *(name)*.", template);
+        textParser.putVariableNameAndValue("name", "Nurujjaman Pollob");
+
+        // Complete the future from a thread of our own, that waits until the dependent stage is added
+        CountDownLatch stageAdded = new CountDownLatch(1);
+        Executor callbackExecutor = runnable -> new Thread(() -> {
+            try {
+                stageAdded.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            runnable.run();
+        }, "callback-thread").start();
+
+        CompletableFuture<String> future = textParser.parseAsync(ParserExecutors.getDefaultExecutor(), callbackExecutor)
+                .thenApply(result -> result + Thread.currentThread().getName());
+        stageAdded.countDown();
+
+        Assertions.assertTrue(future.get(10, TimeUnit.SECONDS).contains("Hi, I am Nurujjaman Pollob.callback-thread"));
+
+        // The error is the cause of the execution exception
+        ExecutionException executionException = Assertions.assertThrows(ExecutionException.class, () -> new TextParser("Hi, I am *(age)*.", template).parseAsync().get(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(executionException.getCause() instanceof TemplateException);
+
+        // An executor written as a lambda is not ambiguous
+        Assertions.assertEquals("Hi, I am Nurujjaman Pollob.", textParser.parseAsync(task -> ParserExecutors.getDefaultExecutor().execute(task)).get(10, TimeUnit.SECONDS));
+    }
 }
@@ -167,6 +167,26 @@ public class TextParserOptionalTest {
 
     }
 
+    /**
+     * Test Option identifier with a defVal, that is not closed. It has no default value, so it is written as null, as the version 2.0 did.
+     */
+    @Test
+    public void testWithOptionalIdentifierWithNotClosedDefaultValue() throws TemplateException {
+        String text = "Hi, I am *(?name defVal=\"John)* and I am *(?age defVal=\"20\")* years old.";
+        String matchTo = "Hi, I am null and I am 20 years old.";
+
+        // Create template instance
+        Template template = new Template("*(", ")*");
+        // Create parser instance
+        TextParser parser = new TextParser(text, template);
+
+        Assertions.assertEquals(matchTo, parser.parseSynchronously());
+
+        // The value passed is used, as for any optional identifier
+        parser.putVariableNameAndValue("name", "Jane");
+        Assertions.assertEquals("Hi, I am Jane and I am 20 years old.", parser.parseSynchronously());
+    }
+
 
 
 }
@@ -62,9 +62,25 @@ package dev.nurujjamanpollob.textparserlibtestpackage;
 import dev.nurujjamanpollob.textparserlib.Template;
 import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
 import dev.nurujjamanpollob.textparserlib.parser.TextParser;
+import dev.nurujjamanpollob.textparserlib.parser.Utf8TextParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
 /**
  * Test class to test the {@link TextParser#parseSynchronously()} method with different params.
  * @author Nurujjaman Pollob
@@ -223,6 +239,127 @@ public class TextParserSynchronousTest {
 
     }
 
+    /**
+     * Test parse a file into another file.
+     */
+    @Test
+    public void testRenderFile() throws TemplateException, IOException {
+        String text = "Hi, I am *(name)* and I am *(?age defVal=\"23\")* years old.";
+        String matchTo = "Hi, I am Nurujjaman Pollob and I am 23 years old.";
+
+        Path in = Files.createTempFile("textparser-in", ".txt");
+        Path out = Files.createTempFile("textparser-out", ".txt");
+
+        try {
+            Files.write(in, text.getBytes(StandardCharsets.UTF_8));
+
+            Map<String, String> keyValuePairs = new HashMap<>();
+            keyValuePairs.put("name", "Nurujjaman Pollob");
+
+            TextParser.renderFile(in, out, new Template("*(", ")*"), keyValuePairs);
+
+            // Assert the output file
+            Assertions.assertEquals(matchTo, new String(Files.readAllBytes(out), StandardCharsets.UTF_8));
+
+            // A parse that fails leaves the output file as it was, and no partial file behind
+            Assertions.assertThrows(TemplateException.class, () -> TextParser.renderFile(in, out, new Template("*(", ")*"), new HashMap<>()));
+            Assertions.assertEquals(matchTo, new String(Files.readAllBytes(out), StandardCharsets.UTF_8));
+            try (Stream<Path> siblings = Files.list(out.getParent())) {
+                Assertions.assertFalse(siblings.anyMatch(path -> path.getFileName().toString().startsWith("." + out.getFileName())));
+            }
+
+            // A replaced output file keeps its permissions
+            if (Files.getFileStore(out).supportsFileAttributeView(PosixFileAttributeView.class)) {
+                Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+                Files.setPosixFilePermissions(out, permissions);
+
+                TextParser.renderFile(in, out, new Template("*(", ")*"), keyValuePairs);
+                Assertions.assertEquals(permissions, Files.getPosixFilePermissions(out));
+            }
+
+            // The input file cannot be the output file, even by another path, and it is kept as it is
+            Path sameAsIn = in.getParent().resolve(".").resolve(in.getFileName());
+            TemplateException templateException = Assertions.assertThrows(TemplateException.class, () -> TextParser.renderFile(in, sameAsIn, new Template("*(", ")*"), keyValuePairs));
+
+            Assertions.assertEquals("The output file cannot be the same as the input file.", templateException.getMessage());
+            Assertions.assertEquals(text, new String(Files.readAllBytes(in), StandardCharsets.UTF_8));
+        } finally {
+            Files.deleteIfExists(in);
+            Files.deleteIfExists(out);
+        }
+    }
+
+    /**
+     * Test the first error in text order is reported, a mandatory identifier without value before a syntax error is reported instead of the syntax error, as the version 2.0 did.
+     */
+    @Test
+    public void testFirstErrorInTextOrder() throws TemplateException {
+        Template template = new Template("*(", ")*");
+        String text = "x *(a)* y *(b";
+
+        TemplateException missingValue = Assertions.assertThrows(TemplateException.class, () -> new TextParser(text, template, new HashMap<>(), true).parseSynchronously());
+        Assertions.assertEquals("Variable 'a' has no value passed. try to put value though constructor or putVariableNameAndValue method.", missingValue.getMessage());
+
+        // The byte engine reports the same error
+        Assertions.assertEquals(missingValue.getMessage(), Assertions.assertThrows(TemplateException.class, () -> new Utf8TextParser(template, new HashMap<>(), true).parse(text.getBytes(StandardCharsets.UTF_8))).getMessage());
+
+        // Once the value is passed, the syntax error is reported
+        Map<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("a", "1");
+
+        TemplateException syntaxError = Assertions.assertThrows(TemplateException.class, () -> new TextParser(text, template, keyValuePairs, true).parseSynchronously());
+        Assertions.assertEquals("End template not found.", syntaxError.getMessage());
+
+        // A syntax error before the identifier without value is reported first
+        syntaxError = Assertions.assertThrows(TemplateException.class, () -> new TextParser("x *(?c)* *(a)*", template, new HashMap<>(), true).parseSynchronously());
+        Assertions.assertEquals("Def value not found, you can define one using defVal=\"defValue\"", syntaxError.getMessage());
+    }
+
+    /**
+     * Test parse a text, that is not a String. The parsed text is exactly the same as parsing a String.
+     */
+    @Test
+    public void testParseCharSequence() throws TemplateException {
+        String text = "Hi, I am *(name)* and I am *(?age defVal=\"20\")* years old.";
+        String matchTo = "Hi, I am Nurujjaman Pollob and I am 20 years old.";
+
+        Map<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "Nurujjaman Pollob");
+
+        Template template = new Template("*(", ")*");
+
+        // A view of the text, that is placed in the middle of a larger buffer
+        CharBuffer charBuffer = CharBuffer.wrap("<<" + text + ">>");
+        charBuffer.position(2);
+        charBuffer.limit(charBuffer.limit() - 2);
 
+        Assertions.assertEquals(matchTo, new TextParser(text, template, keyValuePairs).parseSynchronously());
+        Assertions.assertEquals(matchTo, new TextParser(new StringBuilder(text), template, keyValuePairs).parseSynchronously());
+        Assertions.assertEquals(matchTo, new TextParser(charBuffer, template, keyValuePairs, true).parseSynchronously());
+    }
+
+    /**
+     * Test parse a text, that use more than one template.
+     */
+    @Test
+    public void testParseWithMultipleTemplates() throws TemplateException {
+        String text = "Hi, I am *(name)* and I am ${age} years old, {{city}} is {nice}.";
+        String matchTo = "Hi, I am Nurujjaman Pollob and I am 23 years old, Dhaka is nice.";
+
+        Map<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "Nurujjaman Pollob");
+        keyValuePairs.put("age", "23");
+        keyValuePairs.put("city", "Dhaka");
+        keyValuePairs.put("nice", "nice");
+
+        // "{{" is used for "{{city}}", as it is longer than "{"
+        List<Template> templates = Arrays.asList(new Template("*(", ")*"), new Template("${", "}"), new Template("{", "}"), new Template("{{", "}}"));
+
+        Assertions.assertEquals(matchTo, new TextParser(text, templates, keyValuePairs, true).parseSynchronously());
+
+        // Only the start template of the same template is a syntax error
+        TemplateException templateException = Assertions.assertThrows(TemplateException.class, () -> new TextParser("*(name ${age} *(age)*", templates, keyValuePairs, true).parseSynchronously());
+        Assertions.assertEquals("Syntax error. Found another start template, while iterating for end template. There is likely a syntax error in the text. Please fix that first.", templateException.getMessage());
+    }
 
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlibtestpackage;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.TextParser;
+import dev.nurujjamanpollob.textparserlib.parser.Utf8TextParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test class to test the {@link Utf8TextParser} class, that parses UTF-8 encoded text as bytes.
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @see Utf8TextParser for more details.
+ */
+public class Utf8TextParserTest {
+
+    /**
+     * Test to parse the bytes, the parsed bytes are the same as encoding the text parsed by {@link TextParser}.
+     */
+    @Test
+    public void testParseBytes() throws TemplateException, IOException {
+        String text = "Gr\u00fc\u00dfe *(name)*, \u4f60\u597d *(?city defVal=\"Dhaka\")*!";
+
+        Map<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "J\u00fcrgen");
+
+        Template template = new Template("*(", ")*");
+        Utf8TextParser parser = new Utf8TextParser(template, keyValuePairs, true);
+
+        byte[] expected = new TextParser(text, template, keyValuePairs).parseSynchronously().getBytes(StandardCharsets.UTF_8);
+        byte[] in = text.getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertArrayEquals(expected, parser.parse(in));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parser.parse(ByteBuffer.allocateDirect(in.length).put(in).flip(), out);
+        Assertions.assertArrayEquals(expected, out.toByteArray());
+    }
+
+    /**
+     * Test to parse into a buffer, that has no space for the parsed bytes.
+     */
+    @Test
+    public void testParseIntoSmallBuffer() throws TemplateException {
+        Map<String, String> keyValuePairs = new HashMap<>();
+        keyValuePairs.put("name", "Nurujjaman Pollob");
+
+        Utf8TextParser parser = new Utf8TextParser(new Template("*(", ")*"), keyValuePairs);
+
+        ByteBuffer in = ByteBuffer.wrap("Hi, I am *(name)*".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer out = ByteBuffer.allocate(16);
+
+        TemplateException templateException = Assertions.assertThrows(TemplateException.class, () -> parser.parse(in, out));
+        Assertions.assertEquals("The output buffer has no space left for the parsed text.", templateException.getMessage());
+
+        // Nothing is parsed
+        Assertions.assertEquals(0, in.position());
+        Assertions.assertEquals(0, out.position());
+
+        ByteBuffer largeOut = ByteBuffer.allocate(64);
+        parser.parse(in, largeOut);
+
+        Assertions.assertFalse(in.hasRemaining());
+        Assertions.assertEquals("Hi, I am Nurujjaman Pollob", new String(largeOut.array(), 0, largeOut.position(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022 Nurujjaman Pollob, All Right Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * If you have contributed in codebase,
+ * and want to add your name or copyright in a particular class or method,
+ * you must follow this following pattern:
+ * <code>
+ *     // For a new method created by you,
+ *     //like this example method with name fooMethod()
+ *     //then use following format:
+ *
+ *     >>>
+ *     @author $Name and $CurrentYear.
+ *     $Documentation here.
+ *     $Notes
+ *     public boolean fooMethod(){}
+ *     <<<
+ *
+ *     // For an existing method
+ *
+ *     >>>
+ *     $Current Method Documentation(Update if needed)
+ *
+ *     Updated by $YourName
+ *     $Update summery
+ *     $Notes(If any)
+ *     <<<
+ *
+ *     // For a new class of file, that is not created by anyone else
+ *     >>>
+ *     Copyright (c) $CurrentYear $Name, All right reserved.
+ *
+ *     $Copyright Text.
+ *     $Notes(If Any)
+ *     <<<
+ *
+ *     // For a existing class, if you want to add your own copyright for your work.
+ *
+ *     >>>
+ *     $Current Copyright text
+ *
+ *     $YourCopyrightText
+ *     <<<
+ *
+ *     Done! Clean code!!
+ * </code>
+ */
+
+package dev.nurujjamanpollob.textparserlibtestpackage;
+
+import dev.nurujjamanpollob.textparserlib.Template;
+import dev.nurujjamanpollob.textparserlib.exception.TemplateException;
+import dev.nurujjamanpollob.textparserlib.parser.CompiledTemplate;
+import dev.nurujjamanpollob.textparserlib.parser.ParserExecutors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Test class to test the Java 21 version of {@link ParserExecutors#getVirtualThreadExecutor()}, this test runs on a Java 21 toolchain.
+ * @author Nurujjaman Pollob
+ * @version 1.0.0
+ * @since 2.1.0
+ * @see ParserExecutors for more details.
+ */
+public class VirtualThreadExecutorTest {
+
+    /**
+     * Test that the Java 21 classes are loaded, and the tasks run in virtual threads.
+     */
+    @Test
+    public void testTaskRunsInVirtualThread() throws InterruptedException, ExecutionException, TimeoutException {
+        Assertions.assertTrue(ParserExecutors.isVirtualThreadSupported());
+        Assertions.assertNotSame(ParserExecutors.getDefaultExecutor(), ParserExecutors.getVirtualThreadExecutor());
+
+        boolean isVirtual = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), ParserExecutors.getVirtualThreadExecutor())
+                .get(10, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(isVirtual);
+    }
+
+    /**
+     * Test to render asynchronously with the virtual thread executor.
+     */
+    @Test
+    public void testRenderAsyncInVirtualThread() throws TemplateException, InterruptedException, ExecutionException, TimeoutException {
+        CompiledTemplate compiledTemplate = new Template("*(", ")*").compile("Hello *(name)*");
+
+        String result = compiledTemplate.renderAsync(Map.of("name", "World"), ParserExecutors.getVirtualThreadExecutor(), Runnable::run)
+                .get(10, TimeUnit.SECONDS);
+
+        Assertions.assertEquals("Hello World", result);
+    }
+}